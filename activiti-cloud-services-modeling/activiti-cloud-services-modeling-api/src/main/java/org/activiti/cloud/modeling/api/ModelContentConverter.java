@@ -57,4 +57,18 @@ public interface ModelContentConverter<T extends ModelContent> {
                                       Map<String, String> modelIdentifiers){
     return fileContent;
   }
+
+  /**
+   * Same as {@link #overrideModelId(FileContent, Map)}, but reusing the model content already converted from the file content.
+   * @param fileContent the FileContent wrapper to fix
+   * @param modelContent the model content converted from the given file content
+   * @param modelIdentifiers the mapping of the old ids to the new ones
+   * @return the fixed FileContent
+   */
+  default FileContent overrideModelId(FileContent fileContent,
+                                      T modelContent,
+                                      Map<String, String> modelIdentifiers){
+    return overrideModelId(fileContent,
+                           modelIdentifiers);
+  }
 }
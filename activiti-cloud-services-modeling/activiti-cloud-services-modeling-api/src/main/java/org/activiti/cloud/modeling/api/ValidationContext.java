@@ -17,6 +17,9 @@
 package org.activiti.cloud.modeling.api;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 
@@ -39,5 +42,26 @@ public interface ValidationContext {
 
     List<Model> getAvailableModels(ModelType modelType);
 
+    default Optional<Model> findAvailableModel(ModelType modelType,
+                                               String modelId) {
+        return getAvailableModels(modelType)
+                .stream()
+                .filter(model -> Objects.equals(model.getId(),
+                                                modelId))
+                .findFirst();
+    }
+
+    /**
+     * Get data derived from the available models, computing it only if not already computed in this context.
+     * @param key the key of the derived data
+     * @param supplier the supplier computing the derived data
+     * @param <T> the type of the derived data
+     * @return the derived data
+     */
+    default <T> T getOrCompute(String key,
+                               Supplier<T> supplier) {
+        return supplier.get();
+    }
+
     boolean isEmpty();
 }
@@ -27,6 +27,7 @@ import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * Json to model metadata converter
@@ -36,6 +37,10 @@ public class ExtensionsJsonConverter implements AttributeConverter<Map, String>
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    private static final ObjectMapper canonicalObjectMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS,
+                       true);
+
     @Override
     public String convertToDatabaseColumn(Map entity) {
         try {
@@ -49,6 +54,26 @@ public class ExtensionsJsonConverter implements AttributeConverter<Map, String>
         }
     }
 
+    /**
+     * Convert the given extensions to json with all the entries ordered by keys,
+     * so that equal extensions always give the same json, whether they are read from json or not.
+     * @param entity the extensions to convert
+     * @return the canonical json, or null if the extensions are null
+     */
+    public String convertToCanonicalJson(Map entity) {
+        try {
+            if (entity == null) {
+                return null;
+            }
+            Map json = canonicalObjectMapper.readValue(canonicalObjectMapper.writeValueAsBytes(entity),
+                                                       Map.class);
+            return canonicalObjectMapper.writeValueAsString(json);
+        } catch (IOException ex) {
+            throw new DataIntegrityViolationException("Cannot convert entity to json data: " + entity,
+                                                      ex);
+        }
+    }
+
     @Override
     public Map<String, Object> convertToEntityAttribute(String json) {
         try {
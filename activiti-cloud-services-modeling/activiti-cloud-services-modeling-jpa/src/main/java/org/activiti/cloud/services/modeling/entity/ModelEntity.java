@@ -20,13 +20,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
-import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.PrePersist;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 import javax.persistence.UniqueConstraint;
@@ -39,7 +40,6 @@ import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.process.Extensions;
 import org.activiti.cloud.services.modeling.jpa.audit.AuditableEntity;
 import org.activiti.cloud.services.modeling.jpa.version.VersionedEntity;
-import org.hibernate.annotations.GenericGenerator;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
@@ -58,8 +58,6 @@ public class ModelEntity extends AuditableEntity<String> implements Model<Projec
                                                                     VersionedEntity<ModelVersionEntity> {
 
     @Id
-    @GeneratedValue(generator = "system-uuid")
-    @GenericGenerator(name = "system-uuid", strategy = "uuid2")
     private String id;
 
     @ManyToOne
@@ -67,7 +65,7 @@ public class ModelEntity extends AuditableEntity<String> implements Model<Projec
     private ProjectEntity project;
 
     @JsonIgnore
-    @OneToMany(cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "versionedEntity", cascade = CascadeType.ALL)
     private List<ModelVersionEntity> versions = new ArrayList<>();
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -89,6 +87,16 @@ public class ModelEntity extends AuditableEntity<String> implements Model<Projec
         this.type = type;
     }
 
+    /**
+     * Generate the identifier of a new model, unless it was assigned to be referenced before the model is created.
+     */
+    @PrePersist
+    void generateId() {
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+    }
+
     @Override
     public String getId() {
         return id;
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.entity;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.activiti.cloud.modeling.api.ModelSummary;
+import org.activiti.cloud.services.modeling.jpa.audit.AuditableEntity;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Read-only summary of a model, without content nor extensions.
+ * The project is only referenced by its id.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(NON_NULL)
+public class ModelSummaryImpl extends AuditableEntity<String> implements ModelSummary<String> {
+
+    private String id;
+
+    private String name;
+
+    private String type;
+
+    private String template;
+
+    private String version;
+
+    private String projectId;
+
+    public ModelSummaryImpl(String id,
+                            String name,
+                            String type,
+                            String template,
+                            String version,
+                            String projectId,
+                            String createdBy,
+                            Date creationDate,
+                            String lastModifiedBy,
+                            Date lastModifiedDate) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.template = template;
+        this.version = version;
+        this.projectId = projectId;
+        this.createdBy = createdBy;
+        this.creationDate = creationDate;
+        this.lastModifiedBy = lastModifiedBy;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getProjectId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.entity;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import org.activiti.cloud.services.modeling.jpa.codec.EncodedContent;
+import org.activiti.cloud.services.modeling.jpa.version.VersionIdentifier;
+
+/**
+ * Encoded columns of a model version, mapped apart from the version itself,
+ * so that its content can be encoded again without auditing the version.
+ * Updating encoded columns through entities lets the updates be sent in JDBC batches.
+ */
+@Entity(name = "ModelVersionEncoding")
+@Table(name = "model_version")
+public class ModelVersionEncodingEntity {
+
+    @EmbeddedId
+    private VersionIdentifier versionIdentifier;
+
+    @Lob
+    @Column(name = "content")
+    private byte[] encodedContent;
+
+    @Lob
+    @Column(name = "extensions")
+    private String encodedExtensions;
+
+    private String codec;
+
+    public VersionIdentifier getVersionIdentifier() {
+        return versionIdentifier;
+    }
+
+    public EncodedContent getEncoded() {
+        return new EncodedContent(codec,
+                                  encodedContent,
+                                  encodedExtensions);
+    }
+
+    public void setEncoded(EncodedContent encoded) {
+        this.encodedContent = encoded.getContent();
+        this.encodedExtensions = encoded.getText();
+        this.codec = encoded.getCodec();
+    }
+}
@@ -16,22 +16,39 @@
 
 package org.activiti.cloud.services.modeling.entity;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
 import javax.persistence.Column;
-import javax.persistence.Convert;
+import javax.persistence.ConstraintMode;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinColumns;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.MapsId;
+import javax.persistence.Table;
 import javax.persistence.Transient;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import org.activiti.cloud.modeling.api.ModelVersion;
 import org.activiti.cloud.modeling.api.process.Extensions;
 import org.activiti.cloud.services.modeling.jpa.audit.AuditableEntity;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentCodecEntityListener;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentCodecs;
+import org.activiti.cloud.services.modeling.jpa.codec.EncodedContent;
+import org.activiti.cloud.services.modeling.jpa.codec.EncodedContentEntity;
+import org.activiti.cloud.services.modeling.jpa.version.ContentDelta;
+import org.activiti.cloud.services.modeling.jpa.version.DeltaVersionEntity;
+import org.activiti.cloud.services.modeling.jpa.version.FingerprintVersionEntity;
+import org.activiti.cloud.services.modeling.jpa.version.VersionFingerprint;
 import org.activiti.cloud.services.modeling.jpa.version.VersionEntity;
 import org.activiti.cloud.services.modeling.jpa.version.VersionIdentifier;
 
@@ -41,9 +58,21 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
  * Model version entity
  */
 @Entity(name = "ModelVersion")
+@Table(name = "model_version",
+        indexes = @Index(name = "IDX_MODEL_VERSION_SEQUENCE",
+                columnList = "versioned_entity_id, version_sequence",
+                unique = true)
+)
+@EntityListeners(ContentCodecEntityListener.class)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(NON_NULL)
-public class ModelVersionEntity extends AuditableEntity<String> implements VersionEntity<ModelEntity> {
+public class ModelVersionEntity extends AuditableEntity<String> implements VersionEntity<ModelEntity>,
+                                                                           ModelVersion<String>,
+                                                                           DeltaVersionEntity<ModelVersionEntity>,
+                                                                           FingerprintVersionEntity,
+                                                                           EncodedContentEntity {
+
+    private static final ExtensionsJsonConverter EXTENSIONS_JSON_CONVERTER = new ExtensionsJsonConverter();
 
     @EmbeddedId
     @JsonIgnore
@@ -54,17 +83,70 @@ public class ModelVersionEntity extends AuditableEntity<String> implements Versi
     @MapsId("versionedEntityId")
     private ModelEntity versionedEntity;
 
+    @Column(updatable = false)
+    private long versionSequence;
+
+    @Column(updatable = false)
     private String contentType;
 
     @Lob
-    @Column
-    private byte[] content;
+    @Column(name = "content", updatable = false)
+    private byte[] encodedContent;
 
     @Lob
-    @Column
-    @Convert(converter = ExtensionsJsonConverter.class)
+    @Column(name = "extensions", updatable = false)
+    private String encodedExtensions;
+
+    @Column(updatable = false)
+    private String codec;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumns(value = {
+            @JoinColumn(name = "snapshot_version", referencedColumnName = "version", updatable = false),
+            @JoinColumn(name = "snapshot_versioned_entity_id", referencedColumnName = "versioned_entity_id", updatable = false)
+    }, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private ModelVersionEntity snapshot;
+
+    @Column(updatable = false)
+    private int snapshotDistance;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumns(value = {
+            @JoinColumn(name = "content_version", referencedColumnName = "version", updatable = false),
+            @JoinColumn(name = "content_versioned_entity_id", referencedColumnName = "versioned_entity_id", updatable = false)
+    }, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private ModelVersionEntity contentVersion;
+
+    @Transient
+    private byte[] storedContent;
+
+    @Transient
+    private boolean storedContentDecoded;
+
+    @Transient
+    private byte[] content;
+
+    @Transient
+    private boolean contentResolved;
+
+    @Transient
+    private boolean contentModified;
+
+    @Transient
     private Map<String,Object> extensions;
 
+    @Transient
+    private boolean extensionsDecoded;
+
+    @Transient
+    private ContentCodecs contentCodecs;
+
+    @JsonIgnore
+    @Column(updatable = false)
+    private String fingerprint;
+
     public ModelVersionEntity() {
 
     }
@@ -93,6 +175,17 @@ public class ModelVersionEntity extends AuditableEntity<String> implements Versi
         this.versionedEntity = versionedEntity;
     }
 
+    @Override
+    public long getVersionSequence() {
+        return versionSequence;
+    }
+
+    @Override
+    public void setVersionSequence(long versionSequence) {
+        this.versionSequence = versionSequence;
+    }
+
+    @Override
     public String getContentType() {
         return contentType;
     }
@@ -101,20 +194,172 @@ public class ModelVersionEntity extends AuditableEntity<String> implements Versi
         this.contentType = contentType;
     }
 
+    @Override
     public byte[] getContent() {
+        if (!contentResolved) {
+            content = restoreStoredContent();
+            contentResolved = true;
+        }
         return content;
     }
 
     public void setContent(byte[] content) {
         this.content = content;
+        this.contentResolved = true;
+        this.contentModified = true;
+    }
+
+    @Override
+    public byte[] restoreStoredContent() {
+        if (contentResolved && !contentModified) {
+            return content;
+        }
+        if (contentVersion != null) {
+            return contentVersion.restoreStoredContent();
+        }
+        byte[] stored = getStoredContent();
+        return snapshot != null && stored != null ?
+                ContentDelta.apply(snapshot.getStoredContent(),
+                                   stored) :
+                stored;
+    }
+
+    @Override
+    @JsonIgnore
+    public byte[] getStoredContent() {
+        if (!storedContentDecoded) {
+            storedContent = getEncoded().decodeContent(contentCodecs);
+            storedContentDecoded = true;
+        }
+        return storedContent;
+    }
+
+    @Override
+    public ModelVersionEntity getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    @JsonIgnore
+    public int getSnapshotDistance() {
+        return snapshotDistance;
+    }
+
+    @Override
+    public ModelVersionEntity getContentVersion() {
+        return contentVersion;
+    }
+
+    @Override
+    public void storeSnapshot() {
+        this.snapshot = null;
+        this.snapshotDistance = 0;
+        this.contentVersion = null;
+        encode(getContent());
+    }
+
+    @Override
+    public void storeDelta(ModelVersionEntity snapshot,
+                           int snapshotDistance,
+                           byte[] delta) {
+        this.snapshot = snapshot;
+        this.snapshotDistance = snapshotDistance;
+        this.contentVersion = null;
+        encode(delta);
+    }
+
+    @Override
+    public void shareContent(ModelVersionEntity contentVersion,
+                             int snapshotDistance) {
+        this.snapshot = null;
+        this.snapshotDistance = snapshotDistance;
+        this.contentVersion = contentVersion;
+        encode(null);
+    }
+
+    /**
+     * Set the stored content and the extensions of this version as is, to be encoded before insert.
+     * @param storedContent the content to store
+     */
+    private void encode(byte[] storedContent) {
+        this.storedContent = storedContent;
+        this.storedContentDecoded = true;
+        this.contentModified = false;
+
+        this.encodedContent = storedContent;
+        this.encodedExtensions = EXTENSIONS_JSON_CONVERTER.convertToDatabaseColumn(getExtensions());
+        this.codec = null;
+    }
+
+    /**
+     * Encode the stored content and the extensions of this version with the default codec.
+     * Only the persistent state is used, since a merged version is a copy without the transient one.
+     * @param contentCodecs the codec registry
+     */
+    @Override
+    public void encodeContent(ContentCodecs contentCodecs) {
+        this.contentCodecs = contentCodecs;
+        if (codec == null) {
+            EncodedContent encoded = EncodedContent.encode(contentCodecs,
+                                                           encodedContent,
+                                                           encodedExtensions);
+            this.encodedContent = encoded.getContent();
+            this.encodedExtensions = encoded.getText();
+            this.codec = encoded.getCodec();
+        }
+    }
+
+    @Override
+    public void setContentCodecs(ContentCodecs contentCodecs) {
+        this.contentCodecs = contentCodecs;
+    }
+
+    /**
+     * Get the encoded content of this version. The codec registry is set by {@link ContentCodecEntityListener}
+     * when the version is loaded by an entity manager created with the Spring bean container.
+     * @return the encoded content
+     * @throws IllegalStateException if the content is recorded with a codec and no codec registry is set
+     */
+    private EncodedContent getEncoded() {
+        if (codec != null && contentCodecs == null) {
+            throw new IllegalStateException("No content codec registry set to decode model version " + getVersion() +
+                                                    " encoded with codec " + codec +
+                                                    ": the version was loaded without the Spring managed ContentCodecEntityListener");
+        }
+        return new EncodedContent(codec,
+                                  encodedContent,
+                                  encodedExtensions);
     }
 
     public Map<String,Object> getExtensions() {
+        if (!extensionsDecoded) {
+            extensions = EXTENSIONS_JSON_CONVERTER.convertToEntityAttribute(getEncoded().decodeText(contentCodecs));
+            extensionsDecoded = true;
+        }
         return extensions;
     }
 
     public void setExtensions(Map<String,Object> extensions) {
         this.extensions = extensions;
+        this.extensionsDecoded = true;
+    }
+
+    @Override
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public String computeFingerprint() {
+        String extensionsJson = EXTENSIONS_JSON_CONVERTER.convertToCanonicalJson(getExtensions());
+        return VersionFingerprint.of(contentType != null ? contentType.getBytes(StandardCharsets.UTF_8) : null,
+                                     getContent(),
+                                     extensionsJson != null ? extensionsJson.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    @Override
+    public void storeFingerprint() {
+        this.fingerprint = computeFingerprint();
     }
 
     @Transient
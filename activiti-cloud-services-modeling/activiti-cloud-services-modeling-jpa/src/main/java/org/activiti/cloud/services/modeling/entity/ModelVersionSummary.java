@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.entity;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.activiti.cloud.modeling.api.ModelVersion;
+import org.activiti.cloud.services.modeling.jpa.audit.AuditableEntity;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Read-only summary of a model version, without content nor extensions.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(NON_NULL)
+public class ModelVersionSummary extends AuditableEntity<String> implements ModelVersion<String> {
+
+    private String version;
+
+    private long versionSequence;
+
+    private String contentType;
+
+    public ModelVersionSummary(String version,
+                               long versionSequence,
+                               String contentType,
+                               String createdBy,
+                               Date creationDate,
+                               String lastModifiedBy,
+                               Date lastModifiedDate) {
+        this.version = version;
+        this.versionSequence = versionSequence;
+        this.contentType = contentType;
+        this.createdBy = createdBy;
+        this.creationDate = creationDate;
+        this.lastModifiedBy = lastModifiedBy;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    @Override
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getVersionSequence() {
+        return versionSequence;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    @JsonIgnore
+    public byte[] getContent() {
+        return null;
+    }
+}
@@ -17,10 +17,16 @@
 package org.activiti.cloud.services.modeling.entity;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.persistence.CollectionTable;
 import javax.persistence.Column;
+import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Pattern;
@@ -31,6 +37,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.activiti.cloud.modeling.api.ModelValidationErrorProducer;
 import org.activiti.cloud.modeling.api.Project;
+import org.activiti.cloud.services.modeling.jpa.NameGrams;
 import org.activiti.cloud.services.modeling.jpa.audit.AuditableEntity;
 import org.hibernate.annotations.GenericGenerator;
 
@@ -45,7 +52,7 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 public class ProjectEntity extends AuditableEntity<String> implements Project<String>,
                                                                       ModelValidationErrorProducer {
 
-    @OneToMany
+    @OneToMany(mappedBy = "project")
     @JsonIgnore
     private List<ModelEntity> models;
 
@@ -57,6 +64,14 @@ public class ProjectEntity extends AuditableEntity<String> implements Project<St
     @Column(unique = true)
     private String name;
 
+    @ElementCollection
+    @CollectionTable(name = "project_name_gram",
+            joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "IDX_PROJECT_NAME_GRAM", columnList = "gram, project_id"))
+    @Column(name = "gram", length = NameGrams.GRAM_LENGTH, nullable = false)
+    @JsonIgnore
+    private Set<String> nameGrams;
+
     private String description;
 
     private String version;
@@ -65,7 +80,7 @@ public class ProjectEntity extends AuditableEntity<String> implements Project<St
     }
 
     public ProjectEntity(String name) {
-        this.name = name;
+        setName(name);
     }
 
     @Override
@@ -93,9 +108,16 @@ public class ProjectEntity extends AuditableEntity<String> implements Project<St
 
     @Override
     public void setName(String name) {
+        if (nameGrams == null || !Objects.equals(this.name, name)) {
+            nameGrams = NameGrams.of(name);
+        }
         this.name = name;
     }
 
+    public Set<String> getNameGrams() {
+        return nameGrams;
+    }
+
     @Override
     public String getVersion() {
         return version;
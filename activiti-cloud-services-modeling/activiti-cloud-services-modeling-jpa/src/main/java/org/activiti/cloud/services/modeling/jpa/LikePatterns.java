@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+/**
+ * Builder of the patterns used with like queries escaped by a backslash
+ */
+final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    /**
+     * Build a pattern matching the values containing a given text, or all the values if the text is null.
+     * @param text the text to search
+     * @return the like pattern
+     */
+    static String containing(String text) {
+        if (text == null) {
+            return "%";
+        }
+        return "%" + escape(text) + "%";
+    }
+
+    /**
+     * Build a pattern matching the values starting with a given text.
+     * @param text the text to search
+     * @return the like pattern
+     */
+    static String startingWith(String text) {
+        return escape(text) + "%";
+    }
+
+    /**
+     * Build a pattern matching the names found by a search text, as a prefix or as a substring
+     * depending on the text length, or all the names if the text is null.
+     * @param text the text to search
+     * @return the like pattern
+     * @see NameGrams#isPrefixSearch(String)
+     */
+    static String searching(String text) {
+        return text != null && NameGrams.isPrefixSearch(text) ? startingWith(text) : containing(text);
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
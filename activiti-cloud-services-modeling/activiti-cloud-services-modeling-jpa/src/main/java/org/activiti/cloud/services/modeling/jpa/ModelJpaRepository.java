@@ -16,17 +16,34 @@
 
 package org.activiti.cloud.services.modeling.jpa;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
 import org.activiti.cloud.modeling.api.ModelType;
+import org.activiti.cloud.modeling.api.ModelVersion;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.modeling.repository.ModelRepository;
 import org.activiti.cloud.services.common.file.FileContent;
 import org.activiti.cloud.services.modeling.entity.ModelEntity;
+import org.activiti.cloud.services.modeling.entity.ModelSummaryImpl;
 import org.activiti.cloud.services.modeling.entity.ModelVersionEntity;
+import org.activiti.cloud.services.modeling.entity.ModelVersionSummary;
 import org.activiti.cloud.services.modeling.entity.ProjectEntity;
 import org.activiti.cloud.services.modeling.jpa.version.VersionedJpaRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 /**
@@ -37,7 +54,8 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
         itemResourceRel = "models",
         exported = false)
 public interface ModelJpaRepository extends VersionedJpaRepository<ModelEntity, String, ModelVersionEntity>,
-                                            ModelRepository<ProjectEntity, ModelEntity> {
+                                            ModelRepository<ProjectEntity, ModelEntity>,
+                                            ModelVersionContentRepository {
 
     Page<ModelEntity> findAllByProjectIdAndTypeEquals(String projectId,
                                                       String modelTypeFilter,
@@ -52,11 +70,95 @@ public interface ModelJpaRepository extends VersionedJpaRepository<ModelEntity,
                                                pageable);
     }
 
+    @Query(value = "select new org.activiti.cloud.services.modeling.entity.ModelSummaryImpl(model.id, model.name, model.type, model.template, " +
+            "latestVersion.versionIdentifier.version, model.project.id, model.createdBy, model.creationDate, model.lastModifiedBy, model.lastModifiedDate) " +
+            "from Model model left join model.latestVersion latestVersion where model.project.id = :projectId and model.type = :type",
+            countQuery = "select count(model) from Model model where model.project.id = :projectId and model.type = :type")
+    Page<ModelSummaryImpl> findAllSummariesByProjectIdAndType(@Param("projectId") String projectId,
+                                                              @Param("type") String type,
+                                                              Pageable pageable);
+
+    @Override
+    default Page<ModelSummaryImpl> getModelSummaries(ProjectEntity project,
+                                                     ModelType modelTypeFilter,
+                                                     Pageable pageable) {
+        return findAllSummariesByProjectIdAndType(project.getId(),
+                                                  modelTypeFilter.getName(),
+                                                  pageable);
+    }
+
+    @Query("select new org.activiti.cloud.services.modeling.entity.ModelSummaryImpl(model.id, model.name, model.type, model.template, " +
+            "latestVersion.versionIdentifier.version, model.project.id, model.createdBy, model.creationDate, model.lastModifiedBy, model.lastModifiedDate) " +
+            "from Model model left join model.latestVersion latestVersion where model.project.id = :projectId and model.type = :type " +
+            "and (model.name > :name or (model.name = :name and model.id > :id)) " +
+            "order by model.name, model.id")
+    List<ModelSummaryImpl> findAllSummariesByProjectIdAndTypeAfter(@Param("projectId") String projectId,
+                                                                   @Param("type") String type,
+                                                                   @Param("name") String name,
+                                                                   @Param("id") String id,
+                                                                   Pageable pageable);
+
+    @Query("select new org.activiti.cloud.services.modeling.entity.ModelSummaryImpl(model.id, model.name, model.type, model.template, " +
+            "latestVersion.versionIdentifier.version, model.project.id, model.createdBy, model.creationDate, model.lastModifiedBy, model.lastModifiedDate) " +
+            "from Model model left join model.latestVersion latestVersion where model.project.id = :projectId and model.type = :type " +
+            "and (model.name < :name or (model.name = :name and model.id < :id)) " +
+            "order by model.name desc, model.id desc")
+    List<ModelSummaryImpl> findAllSummariesByProjectIdAndTypeBefore(@Param("projectId") String projectId,
+                                                                    @Param("type") String type,
+                                                                    @Param("name") String name,
+                                                                    @Param("id") String id,
+                                                                    Pageable pageable);
+
+    @Override
+    default List<ModelSummaryImpl> getModelSummariesAfter(ProjectEntity project,
+                                                          ModelType modelTypeFilter,
+                                                          KeysetCursor cursor,
+                                                          int size) {
+        return findAllSummariesByProjectIdAndTypeAfter(project.getId(),
+                                                       modelTypeFilter.getName(),
+                                                       cursor.getKey(),
+                                                       cursor.getId(),
+                                                       PageRequest.of(0,
+                                                                      size));
+    }
+
+    @Override
+    default List<ModelSummaryImpl> getModelSummariesBefore(ProjectEntity project,
+                                                           ModelType modelTypeFilter,
+                                                           KeysetCursor cursor,
+                                                           int size) {
+        List<ModelSummaryImpl> summaries = findAllSummariesByProjectIdAndTypeBefore(project.getId(),
+                                                                                    modelTypeFilter.getName(),
+                                                                                    cursor.getKey(),
+                                                                                    cursor.getId(),
+                                                                                    PageRequest.of(0,
+                                                                                                   size));
+        Collections.reverse(summaries);
+        return summaries;
+    }
+
+    @Query("select model from Model model join fetch model.project left join fetch model.latestVersion latestVersion left join fetch latestVersion.snapshot left join fetch latestVersion.contentVersion contentVersion left join fetch contentVersion.snapshot where model.project.id = :projectId")
+    List<ModelEntity> findAllWithLatestVersionByProjectId(@Param("projectId") String projectId);
+
     @Override
     default Optional<ModelEntity> findModelById(String id) {
         return findById(id);
     }
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "50"))
+    @Query("select model from Model model join fetch model.project left join fetch model.latestVersion latestVersion left join fetch latestVersion.snapshot left join fetch latestVersion.contentVersion contentVersion left join fetch contentVersion.snapshot where model.project.id = :projectId order by model.type, model.name")
+    Stream<ModelEntity> streamAllWithLatestVersionByProjectId(@Param("projectId") String projectId);
+
+    @Override
+    default List<ModelEntity> getAllModels(ProjectEntity project) {
+        return findAllWithLatestVersionByProjectId(project.getId());
+    }
+
+    @Override
+    default Stream<ModelEntity> streamAllModels(ProjectEntity project) {
+        return detachingStream(streamAllWithLatestVersionByProjectId(project.getId()));
+    }
+
     @Override
     default byte[] getModelContent(ModelEntity model) {
         return Optional.ofNullable(model.getContent())
@@ -68,12 +170,71 @@ public interface ModelJpaRepository extends VersionedJpaRepository<ModelEntity,
         return getModelContent(model);
     }
 
+    /**
+     * The content of a version is rebuilt in memory from its snapshot and delta,
+     * so the stream reads that content without copying it.
+     */
+    @Override
+    default InputStream getModelContentStream(ModelEntity model) {
+        return new ByteArrayInputStream(getModelContent(model));
+    }
+
+    @Override
+    default InputStream getModelExportStream(ModelEntity model) {
+        return new ByteArrayInputStream(getModelExport(model));
+    }
+
+    @Query("select new org.activiti.cloud.services.modeling.entity.ModelVersionSummary(version.versionIdentifier.version, version.versionSequence, " +
+            "version.contentType, version.createdBy, version.creationDate, version.lastModifiedBy, version.lastModifiedDate) " +
+            "from ModelVersion version where version.versionIdentifier.versionedEntityId = :modelId and version.versionSequence < :beforeVersionSequence " +
+            "order by version.versionSequence desc")
+    List<ModelVersionSummary> findVersionSummariesByModelId(@Param("modelId") String modelId,
+                                                            @Param("beforeVersionSequence") long beforeVersionSequence,
+                                                            Pageable pageable);
+
+    @Query("select version from ModelVersion version where version.versionIdentifier.versionedEntityId = :modelId and version.versionIdentifier.version = :version")
+    Optional<ModelVersionEntity> findVersionByModelIdAndVersion(@Param("modelId") String modelId,
+                                                                @Param("version") String version);
+
+    @Override
+    default List<ModelVersionSummary> getModelVersions(ModelEntity model,
+                                                       Long beforeVersionSequence,
+                                                       int size) {
+        return findVersionSummariesByModelId(model.getId(),
+                                             Optional.ofNullable(beforeVersionSequence).orElse(Long.MAX_VALUE),
+                                             PageRequest.of(0,
+                                                            size));
+    }
+
+    @Override
+    default Optional<ModelVersionEntity> findModelVersion(ModelEntity model,
+                                                         String version) {
+        return findVersionByModelIdAndVersion(model.getId(),
+                                              version);
+    }
+
+    @Override
+    default InputStream getModelVersionContentStream(ModelVersion<?> modelVersion) {
+        return new ByteArrayInputStream(Optional.ofNullable(modelVersion.getContent())
+                                                .orElse(new byte[0]));
+    }
+
     @Override
     default ModelEntity createModel(ModelEntity model) {
         model.setId(null);
         return save(model);
     }
 
+    @Override
+    default List<ModelEntity> createModels(List<ModelEntity> models) {
+        return createAll(models);
+    }
+
+    @Override
+    default List<ModelEntity> saveModels(List<ModelEntity> models) {
+        return saveAll(models);
+    }
+
     @Override
     default ModelEntity updateModel(ModelEntity modelToBeUpdated,
                                     ModelEntity newModel) {
@@ -95,6 +256,31 @@ public interface ModelJpaRepository extends VersionedJpaRepository<ModelEntity,
         delete(model);
     }
 
+    /**
+     * Unlink the latest versions of the models of a project, so that the versions can be deleted before the models.
+     */
+    @Modifying
+    @Query(value = "update model set latest_version_version = null, latest_version_versioned_entity_id = null where project_id = :projectId",
+            nativeQuery = true)
+    int clearLatestVersionsByProjectId(@Param("projectId") String projectId);
+
+    @Modifying
+    @Query("delete from ModelVersion version where version.versionIdentifier.versionedEntityId in " +
+            "(select model.id from Model model where model.project.id = :projectId)")
+    int deleteVersionsByProjectId(@Param("projectId") String projectId);
+
+    @Modifying
+    @Query("delete from Model model where model.project.id = :projectId")
+    int deleteModelsByProjectId(@Param("projectId") String projectId);
+
+    @Override
+    default int deleteAllModels(ProjectEntity project) {
+        clearLatestVersionsByProjectId(project.getId());
+        releaseContentsByProjectId(project.getId());
+        deleteVersionsByProjectId(project.getId());
+        return deleteModelsByProjectId(project.getId());
+    }
+
     @Override
     default Class<ModelEntity> getModelType() {
         return ModelEntity.class;
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import java.util.Collection;
+
+/**
+ * Release of the stored content of model versions before the versions are deleted or their content is replaced.
+ * On PostgreSQL the content of a version is a large object referenced by its oid,
+ * which is not deleted together with the row and has to be unlinked explicitly.
+ */
+public interface ModelVersionContentRepository {
+
+    /**
+     * Release the content of the given versions of a model.
+     * @param versionedEntityId the model id
+     * @param versions the versions to release
+     * @return the number of bytes stored for the content and the extensions of the released versions
+     */
+    long releaseContents(String versionedEntityId,
+                         Collection<String> versions);
+
+    /**
+     * Release the content of all the versions of the models of a project.
+     * @param projectId the project id
+     */
+    void releaseContentsByProjectId(String projectId);
+
+    /**
+     * Release the content of the versions to encode again with a given codec, in a range of version identifiers.
+     * To be called once the versions are loaded and before they are updated, since each update stores a new content.
+     * @param codec the codec to encode the versions with
+     * @param afterVersionedEntityId the model id of the version before the range
+     * @param afterVersion the version before the range
+     * @param lastVersionedEntityId the model id of the last version of the range
+     * @param lastVersion the last version of the range
+     */
+    void releaseContentsToRecode(String codec,
+                                 String afterVersionedEntityId,
+                                 String afterVersion,
+                                 String lastVersionedEntityId,
+                                 String lastVersion);
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import java.util.Collection;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Implementation of {@link ModelVersionContentRepository} unlinking the content large objects on PostgreSQL.
+ * On the other databases the content is stored in the row and nothing has to be released.
+ */
+public class ModelVersionContentRepositoryImpl implements ModelVersionContentRepository {
+
+    /**
+     * Read mode of lo_open: the size of a large object is the end offset returned by lo_lseek64.
+     */
+    private static final int INV_READ = 0x40000;
+
+    private static final String VERSIONS_CONDITION = "where versioned_entity_id = :versionedEntityId and version in (:versions)";
+
+    private static final String PROJECT_VERSIONS_CONDITION = "where versioned_entity_id in (select id from model where project_id = :projectId)";
+
+    private static final String VERSIONS_TO_RECODE_CONDITION = "where (codec is null or (codec <> :codec and codec <> 'none')) " +
+            "and (versioned_entity_id > :afterVersionedEntityId or (versioned_entity_id = :afterVersionedEntityId and version > :afterVersion)) " +
+            "and (versioned_entity_id < :lastVersionedEntityId or (versioned_entity_id = :lastVersionedEntityId and version <= :lastVersion))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long releaseContents(String versionedEntityId,
+                                Collection<String> versions) {
+        boolean largeObjects = isLargeObjectContent();
+        String storedBytes = largeObjects ?
+                "coalesce(lo_lseek64(lo_open(content, " + INV_READ + "), 0, 2), 0) + coalesce(octet_length(extensions), 0)" :
+                "coalesce(length(content), 0) + coalesce(length(extensions), 0)";
+        Number releasedBytes = (Number) entityManager.createNativeQuery("select coalesce(sum(" + storedBytes + "), 0) from model_version " + VERSIONS_CONDITION)
+                .setParameter("versionedEntityId",
+                              versionedEntityId)
+                .setParameter("versions",
+                              versions)
+                .getSingleResult();
+        if (largeObjects) {
+            entityManager.createNativeQuery("select lo_unlink(content) from model_version " + VERSIONS_CONDITION + " and content is not null")
+                    .setParameter("versionedEntityId",
+                                  versionedEntityId)
+                    .setParameter("versions",
+                                  versions)
+                    .getResultList();
+        }
+        return releasedBytes.longValue();
+    }
+
+    @Override
+    public void releaseContentsByProjectId(String projectId) {
+        if (isLargeObjectContent()) {
+            entityManager.createNativeQuery("select lo_unlink(content) from model_version " + PROJECT_VERSIONS_CONDITION + " and content is not null")
+                    .setParameter("projectId",
+                                  projectId)
+                    .getResultList();
+        }
+    }
+
+    @Override
+    public void releaseContentsToRecode(String codec,
+                                        String afterVersionedEntityId,
+                                        String afterVersion,
+                                        String lastVersionedEntityId,
+                                        String lastVersion) {
+        if (isLargeObjectContent()) {
+            entityManager.createNativeQuery("select lo_unlink(content) from model_version " + VERSIONS_TO_RECODE_CONDITION + " and content is not null")
+                    .setParameter("codec",
+                                  codec)
+                    .setParameter("afterVersionedEntityId",
+                                  afterVersionedEntityId)
+                    .setParameter("afterVersion",
+                                  afterVersion)
+                    .setParameter("lastVersionedEntityId",
+                                  lastVersionedEntityId)
+                    .setParameter("lastVersion",
+                                  lastVersion)
+                    .getResultList();
+        }
+    }
+
+    private boolean isLargeObjectContent() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQL81Dialect;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.activiti.cloud.services.modeling.entity.ModelVersionEncodingEntity;
+import org.activiti.cloud.services.modeling.entity.ModelVersionEntity;
+import org.activiti.cloud.services.modeling.jpa.version.VersionIdentifier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+/**
+ * JPA Repository for {@link ModelVersionEntity} entity
+ */
+@RepositoryRestResource(exported = false)
+public interface ModelVersionJpaRepository extends JpaRepository<ModelVersionEntity, VersionIdentifier>,
+                                                   ModelVersionContentRepository {
+
+    /**
+     * Find the encoded columns of the versions recorded without codec or with another codec than the given one,
+     * after a given version identifier. Updating the encoded columns of the returned entities
+     * writes them back in JDBC batches when the transaction is flushed.
+     */
+    @Query("select encoding from ModelVersionEncoding encoding " +
+            "where (encoding.codec is null or (encoding.codec <> :codec and encoding.codec <> 'none')) " +
+            "and (encoding.versionIdentifier.versionedEntityId > :versionedEntityId " +
+            "or (encoding.versionIdentifier.versionedEntityId = :versionedEntityId and encoding.versionIdentifier.version > :version)) " +
+            "order by encoding.versionIdentifier.versionedEntityId, encoding.versionIdentifier.version")
+    List<ModelVersionEncodingEntity> findEncodingsToRecode(@Param("codec") String codec,
+                                                           @Param("versionedEntityId") String versionedEntityId,
+                                                           @Param("version") String version,
+                                                           Pageable pageable);
+
+    /**
+     * Find the ids of the models having more than a given number of versions, after a given model id.
+     */
+    @Query("select version.versionIdentifier.versionedEntityId from ModelVersion version " +
+            "where version.versionIdentifier.versionedEntityId > :versionedEntityId " +
+            "group by version.versionIdentifier.versionedEntityId " +
+            "having count(version.versionIdentifier.version) > :versionsCount " +
+            "order by version.versionIdentifier.versionedEntityId")
+    List<String> findVersionedEntityIdsWithMoreVersionsThan(@Param("versionsCount") long versionsCount,
+                                                            @Param("versionedEntityId") String versionedEntityId,
+                                                            Pageable pageable);
+
+    /**
+     * Find the retention metadata of all the versions of a model.
+     * Each row contains the version, the version sequence, the creation date, the snapshot version and the content version.
+     */
+    @Query("select version.versionIdentifier.version, version.versionSequence, version.creationDate, " +
+            "snapshot.versionIdentifier.version, contentVersion.versionIdentifier.version " +
+            "from ModelVersion version left join version.snapshot snapshot left join version.contentVersion contentVersion " +
+            "where version.versionIdentifier.versionedEntityId = :versionedEntityId")
+    List<Object[]> findRetentionRecords(@Param("versionedEntityId") String versionedEntityId);
+
+    /**
+     * Delete the given versions of a model. Their content has to be released first with {@link #releaseContents}.
+     */
+    @Modifying
+    @Query("delete from ModelVersion version " +
+            "where version.versionIdentifier.versionedEntityId = :versionedEntityId and version.versionIdentifier.version in :versions")
+    int deleteVersions(@Param("versionedEntityId") String versionedEntityId,
+                       @Param("versions") Collection<String> versions);
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Trigrams of the project names, indexed to search the projects by name without scanning them.
+ * <p>
+ * A name is lower cased and padded with two leading spaces and a trailing one before being split,
+ * so that its first grams also match the prefixes shorter than a trigram.
+ */
+public final class NameGrams {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final String LEADING_PADDING = "  ";
+
+    private static final String TRAILING_PADDING = " ";
+
+    private NameGrams() {
+    }
+
+    /**
+     * Get the grams to index for a name.
+     * @param name the name
+     * @return the grams of the padded name
+     */
+    public static Set<String> of(String name) {
+        return name != null ? grams(LEADING_PADDING + name.toLowerCase(Locale.ROOT) + TRAILING_PADDING) : new HashSet<>();
+    }
+
+    /**
+     * Get the grams that the names matched by a search text all contain.
+     * A text shorter than a trigram is searched as a prefix, a longer one as a substring.
+     * @param text the text to search
+     * @return the grams to search, empty if the text is empty
+     */
+    public static Set<String> search(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        if (lowerCaseText.isEmpty()) {
+            return new HashSet<>();
+        }
+        if (isPrefixSearch(lowerCaseText)) {
+            return grams((LEADING_PADDING + lowerCaseText).substring(lowerCaseText.length() - 1));
+        }
+        return grams(lowerCaseText);
+    }
+
+    /**
+     * Check if a search text is too short to be searched as a substring.
+     * @param text the text to search
+     * @return true if the text is searched as a prefix
+     */
+    public static boolean isPrefixSearch(String text) {
+        return text.length() < GRAM_LENGTH;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= text.length(); start++) {
+            grams.add(text.substring(start,
+                                     start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -16,13 +16,21 @@
 
 package org.activiti.cloud.services.modeling.jpa;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.modeling.repository.ProjectRepository;
 import org.activiti.cloud.services.modeling.entity.ProjectEntity;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 /**
@@ -35,16 +43,87 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 public interface ProjectJpaRepository extends JpaRepository<ProjectEntity, String>,
                                               ProjectRepository<ProjectEntity> {
 
-    Page<ProjectEntity> findAllByNameContaining(String name,
-                                                Pageable pageable);
+    /**
+     * Search the projects by name through the name grams index, the exact match first, then the names
+     * starting with the searched text, then the names containing it, the shortest names first.
+     * @param grams the grams that the matching names all contain
+     * @param gramCount the number of grams
+     * @param name the searched text
+     * @param namePattern the like pattern of the matching names
+     * @param prefixPattern the like pattern of the names starting with the searched text
+     * @param pageable the page request
+     * @return the page of matching projects
+     */
+    @Query(value = "select project from Project project where project.id in (" +
+            "select gramProject.id from Project gramProject join gramProject.nameGrams gram where gram in :grams " +
+            "group by gramProject.id having count(gram) = :gramCount) " +
+            "and project.name like :namePattern escape '\\' " +
+            "order by case when project.name = :name then 0 when project.name like :prefixPattern escape '\\' then 1 else 2 end, " +
+            "length(project.name), project.name",
+            countQuery = "select count(project) from Project project where project.id in (" +
+                    "select gramProject.id from Project gramProject join gramProject.nameGrams gram where gram in :grams " +
+                    "group by gramProject.id having count(gram) = :gramCount) " +
+                    "and project.name like :namePattern escape '\\'")
+    Page<ProjectEntity> searchByName(@Param("grams") Collection<String> grams,
+                                     @Param("gramCount") long gramCount,
+                                     @Param("name") String name,
+                                     @Param("namePattern") String namePattern,
+                                     @Param("prefixPattern") String prefixPattern,
+                                     Pageable pageable);
 
     @Override
     default Page<ProjectEntity> getProjects(Pageable pageable,
                                             String nameToFilter) {
-        return Optional.ofNullable(nameToFilter)
-                .map(name -> findAllByNameContaining(name,
-                                                     pageable))
-                .orElseGet(() -> findAll(pageable));
+        Set<String> grams = nameToFilter != null ? NameGrams.search(nameToFilter) : Collections.emptySet();
+        if (grams.isEmpty()) {
+            return findAll(pageable);
+        }
+        return searchByName(grams,
+                            grams.size(),
+                            nameToFilter,
+                            LikePatterns.searching(nameToFilter),
+                            LikePatterns.startingWith(nameToFilter),
+                            pageable);
+    }
+
+    @Query("select project from Project project where project.name like :namePattern escape '\\' " +
+            "and (project.name > :name or (project.name = :name and project.id > :id)) " +
+            "order by project.name, project.id")
+    List<ProjectEntity> findAllByNameLikeAfter(@Param("namePattern") String namePattern,
+                                               @Param("name") String name,
+                                               @Param("id") String id,
+                                               Pageable pageable);
+
+    @Query("select project from Project project where project.name like :namePattern escape '\\' " +
+            "and (project.name < :name or (project.name = :name and project.id < :id)) " +
+            "order by project.name desc, project.id desc")
+    List<ProjectEntity> findAllByNameLikeBefore(@Param("namePattern") String namePattern,
+                                                @Param("name") String name,
+                                                @Param("id") String id,
+                                                Pageable pageable);
+
+    @Override
+    default List<ProjectEntity> getProjectsAfter(String nameToFilter,
+                                                 KeysetCursor cursor,
+                                                 int size) {
+        return findAllByNameLikeAfter(LikePatterns.searching(nameToFilter),
+                                      cursor.getKey(),
+                                      cursor.getId(),
+                                      PageRequest.of(0,
+                                                     size));
+    }
+
+    @Override
+    default List<ProjectEntity> getProjectsBefore(String nameToFilter,
+                                                  KeysetCursor cursor,
+                                                  int size) {
+        List<ProjectEntity> projects = findAllByNameLikeBefore(LikePatterns.searching(nameToFilter),
+                                                               cursor.getKey(),
+                                                               cursor.getId(),
+                                                               PageRequest.of(0,
+                                                                              size));
+        Collections.reverse(projects);
+        return projects;
     }
 
     @Override
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+import javax.persistence.PostLoad;
+import javax.persistence.PrePersist;
+
+/**
+ * Entity listener providing the codec registry to the entities storing encoded content.
+ * Instantiated by Hibernate through the Spring bean container.
+ */
+public class ContentCodecEntityListener {
+
+    private final ContentCodecs contentCodecs;
+
+    public ContentCodecEntityListener(ContentCodecs contentCodecs) {
+        this.contentCodecs = contentCodecs;
+    }
+
+    @PrePersist
+    public void encodeContent(EncodedContentEntity entity) {
+        entity.encodeContent(contentCodecs);
+    }
+
+    @PostLoad
+    public void setContentCodecs(EncodedContentEntity entity) {
+        entity.setContentCodecs(contentCodecs);
+    }
+}
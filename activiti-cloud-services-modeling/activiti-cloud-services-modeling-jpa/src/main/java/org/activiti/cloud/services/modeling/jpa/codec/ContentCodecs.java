@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.dao.DataRetrievalFailureException;
+
+/**
+ * Registry of the content codecs, by name.
+ * <p>
+ * The codec used for new content is the default one, while existing content is decoded
+ * with the codec recorded with it. Content recorded without codec is stored as is.
+ */
+public class ContentCodecs {
+
+    public static final ContentCodec NONE = new NoneContentCodec();
+
+    private final Map<String, ContentCodec> codecs = new HashMap<>();
+
+    private final ContentCodec defaultCodec;
+
+    public ContentCodecs(List<ContentCodec> contentCodecs,
+                         String defaultCodecName) {
+        register(NONE);
+        register(new DeflateContentCodec());
+        contentCodecs.forEach(this::register);
+        this.defaultCodec = getCodec(defaultCodecName);
+    }
+
+    private void register(ContentCodec codec) {
+        codecs.put(codec.getName(),
+                   codec);
+    }
+
+    /**
+     * Get the codec registered for a given name.
+     * @param name the codec name, or null for content stored as is
+     * @return the codec
+     * @throws DataRetrievalFailureException if no codec is registered for the given name
+     */
+    public ContentCodec getCodec(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        return Optional.ofNullable(codecs.get(name))
+                .orElseThrow(() -> new DataRetrievalFailureException("Unknown content codec: " + name));
+    }
+
+    public ContentCodec getDefaultCodec() {
+        return defaultCodec;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.activiti.cloud.services.modeling.entity.ModelVersionEncodingEntity;
+import org.activiti.cloud.services.modeling.jpa.ModelVersionJpaRepository;
+import org.activiti.cloud.services.modeling.jpa.job.ModelingJob;
+import org.activiti.cloud.services.modeling.jpa.version.VersionIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job encoding again, with the default codec, the model versions stored without codec
+ * or with another codec. The versions are processed in chunks, each chunk in its own transaction
+ * with its updates sent in JDBC batches. The content replaced by the updates is released in the same transaction.
+ * Versions the default codec does not make smaller are stored as is and are not processed again.
+ */
+public class ContentRecompressionJob implements ModelingJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentRecompressionJob.class);
+
+    private final ModelVersionJpaRepository modelVersionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ContentCodecs contentCodecs;
+
+    private final int chunkSize;
+
+    private final long intervalMinutes;
+
+    public ContentRecompressionJob(ModelVersionJpaRepository modelVersionRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ContentCodecs contentCodecs,
+                                   int chunkSize,
+                                   long intervalMinutes) {
+        this.modelVersionRepository = modelVersionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.contentCodecs = contentCodecs;
+        this.chunkSize = chunkSize;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    @Override
+    public String getName() {
+        return "content-recompression";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofMinutes(intervalMinutes);
+    }
+
+    /**
+     * Encode again all the versions to recompress.
+     * @return the number of recompressed versions
+     */
+    @Override
+    public int run() {
+        String codec = contentCodecs.getDefaultCodec().getName();
+        String[] cursor = {"", ""};
+        int recompressed = 0;
+        int processed;
+        do {
+            processed = transactionTemplate.execute(status -> recompressChunk(codec,
+                                                                              cursor));
+            recompressed += processed;
+        } while (processed == chunkSize);
+
+        if (recompressed > 0) {
+            LOGGER.info("{} model versions recompressed with codec {}",
+                        recompressed,
+                        codec);
+        }
+        return recompressed;
+    }
+
+    private int recompressChunk(String codec,
+                                String[] cursor) {
+        List<ModelVersionEncodingEntity> encodings = modelVersionRepository.findEncodingsToRecode(codec,
+                                                                                                 cursor[0],
+                                                                                                 cursor[1],
+                                                                                                 PageRequest.of(0,
+                                                                                                                chunkSize));
+        if (encodings.isEmpty()) {
+            return 0;
+        }
+        VersionIdentifier last = encodings.get(encodings.size() - 1).getVersionIdentifier();
+        modelVersionRepository.releaseContentsToRecode(codec,
+                                                       cursor[0],
+                                                       cursor[1],
+                                                       last.getVersionedEntityId(),
+                                                       last.getVersion());
+        for (ModelVersionEncodingEntity encoding : encodings) {
+            encoding.setEncoded(encoding.getEncoded().recode(contentCodecs));
+        }
+        cursor[0] = last.getVersionedEntityId();
+        cursor[1] = last.getVersion();
+        return encodings.size();
+    }
+}
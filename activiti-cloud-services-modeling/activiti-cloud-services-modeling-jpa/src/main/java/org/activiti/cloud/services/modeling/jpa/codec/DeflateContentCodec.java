@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.dao.DataRetrievalFailureException;
+
+/**
+ * Codec compressing content with deflate
+ */
+public class DeflateContentCodec implements ContentCodec {
+
+    public static final String NAME = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int level;
+
+    public DeflateContentCodec() {
+        this(Deflater.BEST_SPEED);
+    }
+
+    public DeflateContentCodec(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(byte[] content) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(content.length / 4,
+                                                                                    64));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer,
+                                   0,
+                                   deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decode(byte[] encodedContent) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encodedContent);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(encodedContent.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataRetrievalFailureException("Truncated deflate content");
+                }
+                outputStream.write(buffer,
+                                   0,
+                                   inflated);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException e) {
+            throw new DataRetrievalFailureException("Invalid deflate content",
+                                                    e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
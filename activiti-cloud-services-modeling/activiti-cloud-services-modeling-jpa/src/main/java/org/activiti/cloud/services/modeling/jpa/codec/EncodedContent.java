@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Binary content and text encoded together with the same codec, as stored in a single row.
+ * Encoded text is stored in base64, unless stored as is.
+ */
+public class EncodedContent {
+
+    private final String codec;
+
+    private final byte[] content;
+
+    private final String text;
+
+    public EncodedContent(String codec,
+                          byte[] content,
+                          String text) {
+        this.codec = codec;
+        this.content = content;
+        this.text = text;
+    }
+
+    /**
+     * Encode content and text with the default codec, or store them as is
+     * if the default codec does not make them smaller.
+     * @param contentCodecs the codec registry
+     * @param content the content to encode
+     * @param text the text to encode
+     * @return the encoded content
+     */
+    public static EncodedContent encode(ContentCodecs contentCodecs,
+                                        byte[] content,
+                                        String text) {
+        ContentCodec defaultCodec = contentCodecs.getDefaultCodec();
+        if (defaultCodec != ContentCodecs.NONE) {
+            byte[] encodedContent = content != null ? defaultCodec.encode(content) : null;
+            String encodedText = text != null ?
+                    Base64.getEncoder().encodeToString(defaultCodec.encode(text.getBytes(StandardCharsets.UTF_8))) :
+                    null;
+            if (length(encodedContent) + length(encodedText) < length(content) + length(text)) {
+                return new EncodedContent(defaultCodec.getName(),
+                                          encodedContent,
+                                          encodedText);
+            }
+        }
+        return new EncodedContent(ContentCodecs.NONE.getName(),
+                                  content,
+                                  text);
+    }
+
+    public byte[] decodeContent(ContentCodecs contentCodecs) {
+        return content != null ? getCodec(contentCodecs).decode(content) : null;
+    }
+
+    public String decodeText(ContentCodecs contentCodecs) {
+        ContentCodec textCodec = getCodec(contentCodecs);
+        if (text == null || textCodec == ContentCodecs.NONE) {
+            return text;
+        }
+        return new String(textCodec.decode(Base64.getDecoder().decode(text)),
+                          StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encode again the decoded content and text with the default codec.
+     * @param contentCodecs the codec registry
+     * @return the recoded content
+     */
+    public EncodedContent recode(ContentCodecs contentCodecs) {
+        return encode(contentCodecs,
+                      decodeContent(contentCodecs),
+                      decodeText(contentCodecs));
+    }
+
+    public String getCodec() {
+        return codec;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    private ContentCodec getCodec(ContentCodecs contentCodecs) {
+        return codec != null ? contentCodecs.getCodec(codec) : ContentCodecs.NONE;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static int length(String string) {
+        return string != null ? string.length() : 0;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+/**
+ * Entity storing its content encoded with a codec of the registry.
+ */
+public interface EncodedContentEntity {
+
+    /**
+     * Encode the content to store with the default codec, before the entity is inserted.
+     * @param contentCodecs the codec registry
+     */
+    void encodeContent(ContentCodecs contentCodecs);
+
+    /**
+     * Set the codec registry used to decode the stored content, once the entity is loaded.
+     * @param contentCodecs the codec registry
+     */
+    void setContentCodecs(ContentCodecs contentCodecs);
+}
@@ -0,0 +1,41 @@
+package org.activiti.cloud.services.modeling.jpa.config;
+
+import java.util.List;
+
+import org.activiti.cloud.services.modeling.jpa.job.ModelingJob;
+import org.activiti.cloud.services.modeling.jpa.job.ModelingJobScheduler;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Schedule the enabled modeling jobs. The jobs are not coordinated between nodes:
+ * when several nodes share the same database, set activiti.modeling.jobs.runner to false
+ * on all of them but one.
+ */
+@Configuration
+@AutoConfigureAfter(ModelingJpaAutoConfiguration.class)
+@ConditionalOnBean(ModelingJob.class)
+@ConditionalOnProperty(name = "activiti.modeling.jobs.runner", havingValue = "true", matchIfMissing = true)
+public class ModelingJobsAutoConfiguration {
+
+    /**
+     * Task scheduler running the modeling jobs, one at a time. It is not an autowire candidate,
+     * so that it is not used to run the scheduled methods of the host application.
+     */
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskScheduler modelingJobTaskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setThreadNamePrefix("modeling-job-");
+        return taskScheduler;
+    }
+
+    @Bean
+    public ModelingJobScheduler modelingJobScheduler(List<ModelingJob> modelingJobs) {
+        return new ModelingJobScheduler(modelingJobTaskScheduler(),
+                                        modelingJobs);
+    }
+}
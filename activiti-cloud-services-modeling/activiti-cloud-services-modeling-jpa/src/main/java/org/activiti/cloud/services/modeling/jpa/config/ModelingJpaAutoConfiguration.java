@@ -1,15 +1,34 @@
 package org.activiti.cloud.services.modeling.jpa.config;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.activiti.api.runtime.shared.security.SecurityManager;
+import org.activiti.cloud.services.modeling.jpa.ModelVersionJpaRepository;
 import org.activiti.cloud.services.modeling.jpa.audit.AuditorAwareImpl;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentCodec;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentCodecs;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentRecompressionJob;
 import org.activiti.cloud.services.modeling.jpa.version.ExtendedJpaRepositoryFactoryBean;
 import org.activiti.cloud.services.modeling.jpa.version.VersionGenerator;
+import org.activiti.cloud.services.modeling.jpa.version.VersionRetentionJob;
+import org.activiti.cloud.services.modeling.jpa.version.VersionRetentionPolicy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @EnableJpaRepositories(basePackages = {"org.activiti.cloud.services.modeling.jpa"},
@@ -28,4 +47,69 @@ public class ModelingJpaAutoConfiguration {
         return new VersionGenerator();
     }
 
+    /**
+     * Enable JDBC batching with ordered inserts and updates, so that the models, their versions and the projects
+     * written in the same flush are sent in batches. Explicitly configured Hibernate properties take precedence.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingHibernatePropertiesCustomizer(@Value("${activiti.modeling.jdbc-batch-size:50}") int batchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE,
+                                            String.valueOf(batchSize));
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS,
+                                            "true");
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES,
+                                            "true");
+        };
+    }
+
+    @Bean
+    public ContentCodecs contentCodecs(ObjectProvider<ContentCodec> contentCodecs,
+                                       @Value("${activiti.modeling.content-codec:deflate}") String defaultContentCodec) {
+        return new ContentCodecs(contentCodecs.orderedStream().collect(Collectors.toList()),
+                                 defaultContentCodec);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "activiti.modeling.content-recompression.enabled", havingValue = "true")
+    public ContentRecompressionJob contentRecompressionJob(ModelVersionJpaRepository modelVersionJpaRepository,
+                                                           PlatformTransactionManager transactionManager,
+                                                           ContentCodecs contentCodecs,
+                                                           @Value("${activiti.modeling.content-recompression.chunk-size:500}") int chunkSize,
+                                                           @Value("${activiti.modeling.content-recompression.interval-minutes:60}") long intervalMinutes) {
+        return new ContentRecompressionJob(modelVersionJpaRepository,
+                                           new TransactionTemplate(transactionManager),
+                                           contentCodecs,
+                                           chunkSize,
+                                           intervalMinutes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "activiti.modeling.version-retention.enabled", havingValue = "true")
+    public VersionRetentionPolicy versionRetentionPolicy(@Value("${activiti.modeling.version-retention.keep-last:100}") int keepLast,
+                                                         @Value("${activiti.modeling.version-retention.keep-all-days:7}") long keepAllDays,
+                                                         @Value("${activiti.modeling.version-retention.keep-daily-days:90}") long keepDailyDays) {
+        return new VersionRetentionPolicy(keepLast,
+                                          Duration.ofDays(keepAllDays),
+                                          Duration.ofDays(keepDailyDays));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "activiti.modeling.version-retention.enabled", havingValue = "true")
+    public VersionRetentionJob versionRetentionJob(ModelVersionJpaRepository modelVersionJpaRepository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   VersionRetentionPolicy versionRetentionPolicy,
+                                                   ObjectProvider<MeterRegistry> meterRegistry,
+                                                   @Value("${activiti.modeling.version-retention.chunk-size:100}") int chunkSize,
+                                                   @Value("${activiti.modeling.version-retention.batch-size:50}") int batchSize,
+                                                   @Value("${activiti.modeling.version-retention.interval-minutes:60}") long intervalMinutes) {
+        return new VersionRetentionJob(modelVersionJpaRepository,
+                                       new TransactionTemplate(transactionManager),
+                                       versionRetentionPolicy,
+                                       chunkSize,
+                                       batchSize,
+                                       intervalMinutes,
+                                       Clock.systemUTC(),
+                                       meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.cloud.services.modeling.jpa.job;
+
+import java.time.Duration;
+
+/**
+ * Background maintenance job, run periodically by the {@link ModelingJobScheduler}.
+ */
+public interface ModelingJob {
+
+    /**
+     * Get the name of the job, as logged when a run fails.
+     * @return the job name
+     */
+    String getName();
+
+    /**
+     * Get the delay between the end of a run and the start of the next one.
+     * @return the job interval
+     */
+    Duration getInterval();
+
+    /**
+     * Run the job once.
+     * @return the number of processed items
+     */
+    int run();
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.activiti.cloud.services.modeling.jpa.job;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Schedule the modeling jobs as fixed delay tasks of a dedicated task scheduler,
+ * so that a run of a job never overlaps the previous one and the scheduling of the host application is left as is.
+ * The jobs are scheduled once all the singletons are created and cancelled when the scheduler is destroyed.
+ */
+public class ModelingJobScheduler implements SmartInitializingSingleton,
+                                             DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelingJobScheduler.class);
+
+    private final TaskScheduler taskScheduler;
+
+    private final List<ModelingJob> jobs;
+
+    private final List<ScheduledFuture<?>> scheduledJobs = new ArrayList<>();
+
+    public ModelingJobScheduler(TaskScheduler taskScheduler,
+                                List<ModelingJob> jobs) {
+        this.taskScheduler = taskScheduler;
+        this.jobs = jobs;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jobs.forEach(job -> scheduledJobs.add(taskScheduler.scheduleWithFixedDelay(() -> runSafely(job),
+                                                                                   new Date(System.currentTimeMillis() + job.getInterval().toMillis()),
+                                                                                   job.getInterval().toMillis())));
+    }
+
+    @Override
+    public void destroy() {
+        scheduledJobs.forEach(scheduledJob -> scheduledJob.cancel(false));
+        scheduledJobs.clear();
+    }
+
+    private void runSafely(ModelingJob job) {
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Modeling job {} failed",
+                         job.getName(),
+                         e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Binary delta codec for version contents.
+ * <p>
+ * A delta is a sequence of operations rebuilding a target content from a source content:
+ * either copy a range of the source or insert literal bytes.
+ */
+public final class ContentDelta {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private static final int COPY = 0;
+
+    private static final int INSERT = 1;
+
+    private ContentDelta() {
+    }
+
+    /**
+     * Encode the delta to rebuild the target content from the source content.
+     * @param source the source content
+     * @param target the target content
+     * @return the encoded delta
+     */
+    public static byte[] encode(byte[] source,
+                                byte[] target) {
+        ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        writeVarInt(delta,
+                    target.length);
+
+        int literalStart = 0;
+        if (source.length >= BLOCK_SIZE && target.length >= BLOCK_SIZE) {
+            Map<Integer, Integer> sourceBlocks = indexBlocks(source);
+            int highPower = power(BLOCK_SIZE - 1);
+            int position = 0;
+            int hash = hash(target,
+                            0);
+            while (position + BLOCK_SIZE <= target.length) {
+                Integer candidate = sourceBlocks.get(hash);
+                if (candidate != null && regionMatches(source,
+                                                       candidate,
+                                                       target,
+                                                       position)) {
+                    int sourceStart = candidate;
+                    int targetStart = position;
+                    while (sourceStart > 0 && targetStart > literalStart && source[sourceStart - 1] == target[targetStart - 1]) {
+                        sourceStart--;
+                        targetStart--;
+                    }
+                    int sourceEnd = candidate + BLOCK_SIZE;
+                    int targetEnd = position + BLOCK_SIZE;
+                    while (sourceEnd < source.length && targetEnd < target.length && source[sourceEnd] == target[targetEnd]) {
+                        sourceEnd++;
+                        targetEnd++;
+                    }
+
+                    writeInsert(delta,
+                                target,
+                                literalStart,
+                                targetStart);
+                    delta.write(COPY);
+                    writeVarInt(delta,
+                                sourceStart);
+                    writeVarInt(delta,
+                                targetEnd - targetStart);
+
+                    position = targetEnd;
+                    literalStart = targetEnd;
+                    if (position + BLOCK_SIZE <= target.length) {
+                        hash = hash(target,
+                                    position);
+                    }
+                } else {
+                    if (position + BLOCK_SIZE < target.length) {
+                        hash = (hash - (target[position] & 0xff) * highPower) * HASH_MULTIPLIER + (target[position + BLOCK_SIZE] & 0xff);
+                    }
+                    position++;
+                }
+            }
+        }
+        writeInsert(delta,
+                    target,
+                    literalStart,
+                    target.length);
+        return delta.toByteArray();
+    }
+
+    /**
+     * Apply a delta to a source content.
+     * @param source the source content the delta was encoded from
+     * @param delta the delta to apply
+     * @return the rebuilt target content
+     */
+    public static byte[] apply(byte[] source,
+                               byte[] delta) {
+        int[] offset = {0};
+        byte[] target = new byte[readVarInt(delta,
+                                            offset)];
+        int position = 0;
+        try {
+            while (offset[0] < delta.length) {
+                int operation = delta[offset[0]++];
+                if (operation == COPY) {
+                    int sourceStart = readVarInt(delta,
+                                                 offset);
+                    int length = readVarInt(delta,
+                                            offset);
+                    System.arraycopy(source,
+                                     sourceStart,
+                                     target,
+                                     position,
+                                     length);
+                    position += length;
+                } else if (operation == INSERT) {
+                    int length = readVarInt(delta,
+                                            offset);
+                    System.arraycopy(delta,
+                                     offset[0],
+                                     target,
+                                     position,
+                                     length);
+                    offset[0] += length;
+                    position += length;
+                } else {
+                    throw invalidDeltaException();
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw invalidDeltaException();
+        }
+        if (position != target.length) {
+            throw invalidDeltaException();
+        }
+        return target;
+    }
+
+    private static Map<Integer, Integer> indexBlocks(byte[] source) {
+        Map<Integer, Integer> blocks = new HashMap<>(source.length / BLOCK_SIZE * 2);
+        for (int offset = 0; offset + BLOCK_SIZE <= source.length; offset += BLOCK_SIZE) {
+            blocks.putIfAbsent(hash(source,
+                                    offset),
+                               offset);
+        }
+        return blocks;
+    }
+
+    private static int hash(byte[] content,
+                            int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_MULTIPLIER + (content[i] & 0xff);
+        }
+        return hash;
+    }
+
+    private static int power(int exponent) {
+        int power = 1;
+        for (int i = 0; i < exponent; i++) {
+            power *= HASH_MULTIPLIER;
+        }
+        return power;
+    }
+
+    private static boolean regionMatches(byte[] source,
+                                         int sourceOffset,
+                                         byte[] target,
+                                         int targetOffset) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (source[sourceOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream delta,
+                                    byte[] target,
+                                    int start,
+                                    int end) {
+        if (end > start) {
+            delta.write(INSERT);
+            writeVarInt(delta,
+                        end - start);
+            delta.write(target,
+                        start,
+                        end - start);
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream delta,
+                                    int value) {
+        while ((value & ~0x7f) != 0) {
+            delta.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        delta.write(value);
+    }
+
+    private static int readVarInt(byte[] delta,
+                                  int[] offset) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (offset[0] >= delta.length) {
+                throw invalidDeltaException();
+            }
+            byte b = delta[offset[0]++];
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw invalidDeltaException();
+                }
+                return value;
+            }
+        }
+        throw invalidDeltaException();
+    }
+
+    private static DataIntegrityViolationException invalidDeltaException() {
+        return new DataIntegrityViolationException("Invalid version content delta");
+    }
+}
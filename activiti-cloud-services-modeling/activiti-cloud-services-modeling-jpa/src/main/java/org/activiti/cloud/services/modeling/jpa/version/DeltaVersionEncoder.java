@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Encoder of the content of new versions: a full snapshot is stored every given number of versions
+ * and the versions in between store a delta relative to the latest snapshot.
+ * A version with the same content as the previous one shares the content of the previous one,
+ * so that metadata changes do not write the content again.
+ * Reading any version needs at most its snapshot and one delta to apply.
+ * The snapshot interval is set by the {@code activiti.modeling.version.snapshot-interval} property.
+ */
+public class DeltaVersionEncoder {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+
+    private final int snapshotInterval;
+
+    public DeltaVersionEncoder() {
+        this(DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public DeltaVersionEncoder(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Store the content of a new version relative to the previous latest version.
+     * @param newVersion the new version to encode
+     * @param previousVersion the previous latest version, if any
+     * @param <V> the version type
+     */
+    public <V extends DeltaVersionEntity<V>> void encode(V newVersion,
+                                                        V previousVersion) {
+        byte[] content = newVersion.getContent();
+        V previousContentVersion = Optional.ofNullable(previousVersion)
+                .map(previous -> Optional.ofNullable(previous.getContentVersion()).orElse(previous))
+                .orElse(null);
+        if (content != null && previousContentVersion != null && previousContentVersion.getStoredContent() != null &&
+                Arrays.equals(content,
+                              previousContentVersion.restoreStoredContent())) {
+            newVersion.shareContent(previousContentVersion,
+                                    previousVersion.getSnapshotDistance());
+            return;
+        }
+
+        V snapshot = Optional.ofNullable(previousContentVersion)
+                .map(previous -> Optional.ofNullable(previous.getSnapshot()).orElse(previous))
+                .orElse(null);
+        int snapshotDistance = previousVersion != null ? previousVersion.getSnapshotDistance() + 1 : 0;
+
+        if (content == null || snapshot == null || snapshot.getStoredContent() == null || snapshotDistance >= snapshotInterval) {
+            newVersion.storeSnapshot();
+            return;
+        }
+
+        byte[] delta = ContentDelta.encode(snapshot.getStoredContent(),
+                                           content);
+        if (delta.length >= content.length / 2) {
+            newVersion.storeSnapshot();
+        } else {
+            newVersion.storeDelta(snapshot,
+                                  snapshotDistance,
+                                  delta);
+        }
+    }
+}
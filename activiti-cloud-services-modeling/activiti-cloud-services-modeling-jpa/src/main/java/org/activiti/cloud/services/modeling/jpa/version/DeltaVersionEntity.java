@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+/**
+ * Interface for version entity whose content is stored either as a full snapshot,
+ * as a delta relative to a previous snapshot version, or shared with a previous version
+ */
+public interface DeltaVersionEntity<V extends DeltaVersionEntity<V>> {
+
+    /**
+     * Get the full content of this version, applying the stored delta if needed.
+     * @return the full content
+     */
+    byte[] getContent();
+
+    /**
+     * Rebuild the full content of this version as it is stored, ignoring any content set since.
+     * @return the stored full content
+     */
+    byte[] restoreStoredContent();
+
+    /**
+     * Get the content as it is stored: the full content for a snapshot, the delta otherwise.
+     * @return the stored content
+     */
+    byte[] getStoredContent();
+
+    /**
+     * Get the snapshot version the stored delta applies to.
+     * @return the snapshot version, or null if this version is a snapshot
+     */
+    V getSnapshot();
+
+    /**
+     * Get the version whose stored content is shared by this version.
+     * @return the version owning the content, or null if this version stores its own content
+     */
+    V getContentVersion();
+
+    /**
+     * Get the number of versions since the snapshot version.
+     * @return the distance to the snapshot, 0 for a snapshot
+     */
+    int getSnapshotDistance();
+
+    /**
+     * Store the full content of this version.
+     */
+    void storeSnapshot();
+
+    /**
+     * Store the content of this version as a delta relative to a snapshot version.
+     * @param snapshot the snapshot version
+     * @param snapshotDistance the number of versions since the snapshot version
+     * @param delta the delta to store
+     */
+    void storeDelta(V snapshot,
+                    int snapshotDistance,
+                    byte[] delta);
+
+    /**
+     * Share the stored content of another version, without storing any content for this version.
+     * @param contentVersion the version owning the content
+     * @param snapshotDistance the number of versions since the snapshot version
+     */
+    void shareContent(V contentVersion,
+                      int snapshotDistance);
+}
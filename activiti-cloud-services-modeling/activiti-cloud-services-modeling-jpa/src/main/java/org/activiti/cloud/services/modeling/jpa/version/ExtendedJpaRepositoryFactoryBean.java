@@ -19,6 +19,7 @@ package org.activiti.cloud.services.modeling.jpa.version;
 import java.io.Serializable;
 import javax.persistence.EntityManager;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
 import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
@@ -36,6 +37,8 @@ import org.springframework.data.repository.core.support.RepositoryFactorySupport
 public class ExtendedJpaRepositoryFactoryBean<R extends JpaRepository<T, K>, T, K extends Serializable, V extends VersionEntity>
         extends JpaRepositoryFactoryBean<R, T, K> {
 
+    private int snapshotInterval = DeltaVersionEncoder.DEFAULT_SNAPSHOT_INTERVAL;
+
     /**
      * Creates a new {@link JpaRepositoryFactoryBean} for the given repository interface.
      * @param repositoryInterface must not be {@literal null}.
@@ -44,6 +47,15 @@ public class ExtendedJpaRepositoryFactoryBean<R extends JpaRepository<T, K>, T,
         super(repositoryInterface);
     }
 
+    /**
+     * Set the number of versions between two full content snapshots.
+     * @param snapshotInterval the snapshot interval
+     */
+    @Value("${activiti.modeling.version.snapshot-interval:10}")
+    public void setSnapshotInterval(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
     /**
      * Create a {@link ExtendedJpaRepositoryFactory} instance with the given {@link EntityManager}
      * @param entityManager the entity manager
@@ -51,7 +63,8 @@ public class ExtendedJpaRepositoryFactoryBean<R extends JpaRepository<T, K>, T,
      */
     @Override
     protected RepositoryFactorySupport createRepositoryFactory(EntityManager entityManager) {
-        return new ExtendedJpaRepositoryFactory(entityManager);
+        return new ExtendedJpaRepositoryFactory(entityManager,
+                                                new DeltaVersionEncoder(snapshotInterval));
     }
 
     /**
@@ -63,8 +76,12 @@ public class ExtendedJpaRepositoryFactoryBean<R extends JpaRepository<T, K>, T,
     private static class ExtendedJpaRepositoryFactory<T extends VersionedEntity, ID extends Serializable, V extends VersionEntity>
             extends JpaRepositoryFactory {
 
-        public ExtendedJpaRepositoryFactory(EntityManager em) {
+        private final DeltaVersionEncoder deltaVersionEncoder;
+
+        public ExtendedJpaRepositoryFactory(EntityManager em,
+                                            DeltaVersionEncoder deltaVersionEncoder) {
             super(em);
+            this.deltaVersionEncoder = deltaVersionEncoder;
         }
 
         /**
@@ -107,7 +124,8 @@ public class ExtendedJpaRepositoryFactoryBean<R extends JpaRepository<T, K>, T,
             Class<V> versionEntityType = (Class<V>) metadata.getVersionEntityType();
             return new VersionedJpaRepositoryImpl<T, ID, V>(versionedEntityType,
                                                             versionEntityType,
-                                                            entityManager);
+                                                            entityManager,
+                                                            deltaVersionEncoder);
         }
     }
 }
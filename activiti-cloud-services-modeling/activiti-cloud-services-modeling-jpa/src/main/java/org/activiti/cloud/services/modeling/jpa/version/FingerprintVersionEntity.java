@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+/**
+ * Interface for version entity identified by a fingerprint of its versioned state
+ */
+public interface FingerprintVersionEntity {
+
+    /**
+     * Get the fingerprint stored when this version was created.
+     * @return the stored fingerprint, or null if none was stored
+     */
+    String getFingerprint();
+
+    /**
+     * Compute the fingerprint of the current state of this version.
+     * @return the computed fingerprint
+     */
+    String computeFingerprint();
+
+    /**
+     * Store the fingerprint of the current state of this version.
+     */
+    void storeFingerprint();
+}
@@ -26,4 +26,8 @@ public interface VersionEntity<T extends VersionedEntity> {
     void setVersionedEntity(T versionedEntity);
 
     String getVersion();
+
+    long getVersionSequence();
+
+    void setVersionSequence(long versionSequence);
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.activiti.cloud.services.modeling.jpa.ModelVersionJpaRepository;
+import org.activiti.cloud.services.modeling.jpa.job.ModelingJob;
+import org.activiti.cloud.services.modeling.jpa.version.VersionRetentionPolicy.VersionRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job deleting the model versions not retained by the {@link VersionRetentionPolicy}.
+ * Models are processed in chunks and versions are deleted in small batches, each batch in its own transaction
+ * together with the release of the content of the deleted versions.
+ */
+public class VersionRetentionJob implements ModelingJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VersionRetentionJob.class);
+
+    private final ModelVersionJpaRepository modelVersionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final VersionRetentionPolicy retentionPolicy;
+
+    private final int chunkSize;
+
+    private final int batchSize;
+
+    private final long intervalMinutes;
+
+    private final Clock clock;
+
+    private final Counter deletedVersions;
+
+    private final Counter reclaimedBytes;
+
+    private final Counter processedModels;
+
+    private final Timer duration;
+
+    public VersionRetentionJob(ModelVersionJpaRepository modelVersionRepository,
+                               TransactionTemplate transactionTemplate,
+                               VersionRetentionPolicy retentionPolicy,
+                               int chunkSize,
+                               int batchSize,
+                               long intervalMinutes,
+                               Clock clock,
+                               MeterRegistry meterRegistry) {
+        this.modelVersionRepository = modelVersionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionPolicy = retentionPolicy;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.intervalMinutes = intervalMinutes;
+        this.clock = clock;
+        this.deletedVersions = Counter.builder("modeling.model.versions.retention.deleted")
+                .description("Model versions deleted by the retention job")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("modeling.model.versions.retention.reclaimed")
+                .description("Bytes of content and extensions reclaimed by the retention job")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.processedModels = Counter.builder("modeling.model.versions.retention.models")
+                .description("Models whose versions were checked by the retention job")
+                .register(meterRegistry);
+        this.duration = Timer.builder("modeling.model.versions.retention.duration")
+                .description("Duration of the retention job runs")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "version-retention";
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofMinutes(intervalMinutes);
+    }
+
+    /**
+     * Delete the versions not retained by the retention policy, for all the models.
+     * @return the number of deleted versions
+     */
+    @Override
+    public int run() {
+        return duration.record(() -> {
+            String cursor = "";
+            int deleted = 0;
+            double reclaimedBefore = reclaimedBytes.count();
+            List<String> modelIds;
+            do {
+                String after = cursor;
+                modelIds = transactionTemplate.execute(status -> modelVersionRepository.findVersionedEntityIdsWithMoreVersionsThan(
+                        retentionPolicy.getKeepLast(),
+                        after,
+                        PageRequest.of(0,
+                                       chunkSize)));
+                for (String modelId : modelIds) {
+                    deleted += applyRetention(modelId);
+                    cursor = modelId;
+                }
+                processedModels.increment(modelIds.size());
+            } while (modelIds.size() == chunkSize);
+
+            if (deleted > 0) {
+                LOGGER.info("{} model versions deleted by retention policy, {} bytes reclaimed",
+                            deleted,
+                            (long) (reclaimedBytes.count() - reclaimedBefore));
+            }
+            return deleted;
+        });
+    }
+
+    private int applyRetention(String modelId) {
+        List<VersionRecord> versions = transactionTemplate.execute(status -> modelVersionRepository.findRetentionRecords(modelId)
+                .stream()
+                .map(row -> new VersionRecord((String) row[0],
+                                              ((Number) row[1]).longValue(),
+                                              (Date) row[2],
+                                              (String) row[3],
+                                              (String) row[4]))
+                .collect(Collectors.toList()));
+        Set<String> versionsToDelete = retentionPolicy.selectVersionsToDelete(versions,
+                                                                              clock.instant());
+
+        List<String> batch = new ArrayList<>(batchSize);
+        int deleted = 0;
+        for (String version : versionsToDelete) {
+            batch.add(version);
+            if (batch.size() == batchSize) {
+                deleted += deleteBatch(modelId,
+                                       batch);
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += deleteBatch(modelId,
+                                   batch);
+        }
+        return deleted;
+    }
+
+    private int deleteBatch(String modelId,
+                            List<String> batch) {
+        DeletedBatch deleted = transactionTemplate.execute(status -> {
+            long released = modelVersionRepository.releaseContents(modelId,
+                                                                   batch);
+            return new DeletedBatch(modelVersionRepository.deleteVersions(modelId,
+                                                                          batch),
+                                    released);
+        });
+        deletedVersions.increment(deleted.versions);
+        reclaimedBytes.increment(deleted.bytes);
+        batch.clear();
+        return deleted.versions;
+    }
+
+    private static class DeletedBatch {
+
+        private final int versions;
+
+        private final long bytes;
+
+        private DeletedBatch(int versions,
+                             long bytes) {
+            this.versions = versions;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Retention policy of the versions of a versioned entity:
+ * <ul>
+ * <li>the last versions are kept,</li>
+ * <li>all the recent versions are kept,</li>
+ * <li>the latest version of each day is kept for older versions, up to a maximum age,</li>
+ * <li>the snapshot and content versions of the kept versions are kept, so their content can still be rebuilt.</li>
+ * </ul>
+ */
+public class VersionRetentionPolicy {
+
+    private final int keepLast;
+
+    private final Duration keepAll;
+
+    private final Duration keepDaily;
+
+    public VersionRetentionPolicy(int keepLast,
+                                  Duration keepAll,
+                                  Duration keepDaily) {
+        this.keepLast = Math.max(keepLast,
+                                 1);
+        this.keepAll = keepAll;
+        this.keepDaily = keepDaily;
+    }
+
+    public int getKeepLast() {
+        return keepLast;
+    }
+
+    /**
+     * Select the versions to delete among all the versions of a versioned entity.
+     * @param versions all the versions of the versioned entity
+     * @param now the current time
+     * @return the versions to delete
+     */
+    public Set<String> selectVersionsToDelete(List<VersionRecord> versions,
+                                              Instant now) {
+        Map<String, VersionRecord> versionsByName = versions.stream()
+                .collect(Collectors.toMap(VersionRecord::getVersion,
+                                          Function.identity()));
+
+        Deque<VersionRecord> toKeep = new ArrayDeque<>();
+        Set<LocalDate> keptDays = new HashSet<>();
+        Instant keepAllSince = now.minus(keepAll);
+        Instant keepDailySince = now.minus(keepDaily);
+        List<VersionRecord> latestFirst = versions.stream()
+                .sorted(Comparator.comparingLong(VersionRecord::getVersionSequence).reversed())
+                .collect(Collectors.toList());
+        for (int i = 0; i < latestFirst.size(); i++) {
+            VersionRecord version = latestFirst.get(i);
+            Instant creationDate = version.getCreationDate();
+            if (i < keepLast || creationDate == null || !creationDate.isBefore(keepAllSince)) {
+                toKeep.add(version);
+            } else if (!creationDate.isBefore(keepDailySince) &&
+                    keptDays.add(creationDate.atZone(ZoneOffset.UTC).toLocalDate())) {
+                toKeep.add(version);
+            }
+        }
+
+        Set<String> kept = new HashSet<>();
+        while (!toKeep.isEmpty()) {
+            VersionRecord version = toKeep.poll();
+            if (kept.add(version.getVersion())) {
+                addReference(toKeep,
+                             versionsByName,
+                             version.getSnapshotVersion());
+                addReference(toKeep,
+                             versionsByName,
+                             version.getContentVersion());
+            }
+        }
+
+        return versionsByName.keySet().stream()
+                .filter(version -> !kept.contains(version))
+                .collect(Collectors.toSet());
+    }
+
+    private void addReference(Deque<VersionRecord> toKeep,
+                              Map<String, VersionRecord> versionsByName,
+                              String referencedVersion) {
+        if (referencedVersion != null && versionsByName.containsKey(referencedVersion)) {
+            toKeep.add(versionsByName.get(referencedVersion));
+        }
+    }
+
+    /**
+     * Version metadata needed to apply the retention policy
+     */
+    public static class VersionRecord {
+
+        private final String version;
+
+        private final long versionSequence;
+
+        private final Instant creationDate;
+
+        private final String snapshotVersion;
+
+        private final String contentVersion;
+
+        public VersionRecord(String version,
+                             long versionSequence,
+                             Date creationDate,
+                             String snapshotVersion,
+                             String contentVersion) {
+            this.version = version;
+            this.versionSequence = versionSequence;
+            this.creationDate = creationDate != null ? creationDate.toInstant() : null;
+            this.snapshotVersion = snapshotVersion;
+            this.contentVersion = contentVersion;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public long getVersionSequence() {
+            return versionSequence;
+        }
+
+        public Instant getCreationDate() {
+            return creationDate;
+        }
+
+        public String getSnapshotVersion() {
+            return snapshotVersion;
+        }
+
+        public String getContentVersion() {
+            return contentVersion;
+        }
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.activiti.cloud.services.modeling.jpa.version;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -26,4 +29,23 @@ import org.springframework.data.repository.NoRepositoryBean;
 public interface VersionedJpaRepository<T extends VersionedEntity, K, V extends VersionEntity>
         extends JpaRepository<T, K> {
 
+    /**
+     * Create new versioned entities, each with a single first version, without checking if they already exist.
+     * The entities may have identifiers assigned beforehand. They are flushed and detached once created,
+     * so that creating entities by chunks in a transaction keeps the persistence context bounded.
+     * @param versionedEntities the entities to create
+     * @param <S> the versioned entities type
+     * @return the created entities
+     */
+    <S extends T> List<S> createAll(Iterable<S> versionedEntities);
+
+    /**
+     * Wrap a stream of versioned entities read through a query, so that each entity is detached
+     * with its latest version once the following entity is read, keeping the persistence context bounded.
+     * The entities must not be lazily loaded once the stream moved on.
+     * @param versionedEntities the stream of entities to wrap
+     * @param <S> the versioned entities type
+     * @return the detaching stream, to be closed by the caller
+     */
+    <S extends T> Stream<S> detachingStream(Stream<S> versionedEntities);
 }
@@ -19,6 +19,12 @@ package org.activiti.cloud.services.modeling.jpa.version;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.persistence.EntityManager;
 
 import org.springframework.dao.DataIntegrityViolationException;
@@ -36,8 +42,12 @@ public class VersionedJpaRepositoryImpl<T extends VersionedEntity, K extends Ser
 
     private Class<V> versionClass;
 
+    private EntityManager entityManager;
+
     private VersionGenerator versionGenerator = new VersionGenerator();
 
+    private DeltaVersionEncoder deltaVersionEncoder;
+
     /**
      * Creates a new {@link SimpleJpaRepository} to manage objects of the given domain type.
      * @param versionedClass the class of the version entity.
@@ -47,14 +57,33 @@ public class VersionedJpaRepositoryImpl<T extends VersionedEntity, K extends Ser
     public VersionedJpaRepositoryImpl(final Class<T> versionedClass,
                                       final Class<V> versionClass,
                                       final EntityManager entityManager) {
+        this(versionedClass,
+             versionClass,
+             entityManager,
+             new DeltaVersionEncoder());
+    }
+
+    /**
+     * Creates a new {@link SimpleJpaRepository} to manage objects of the given domain type.
+     * @param versionedClass the class of the version entity.
+     * @param versionClass the class of the version entity.
+     * @param entityManager must not be {@literal null}.
+     * @param deltaVersionEncoder the encoder of the content of the new versions
+     */
+    public VersionedJpaRepositoryImpl(final Class<T> versionedClass,
+                                      final Class<V> versionClass,
+                                      final EntityManager entityManager,
+                                      final DeltaVersionEncoder deltaVersionEncoder) {
         super(versionedClass,
               entityManager);
         this.versionedClass = versionedClass;
         this.versionClass = versionClass;
+        this.entityManager = entityManager;
+        this.deltaVersionEncoder = deltaVersionEncoder;
     }
 
     /**
-     * Add a new version before any save.
+     * Add a new version before any save, unless the versioned state of the latest version is unchanged.
      * @param versionedEntity the entity to save
      * @param <S> the versionedEntity type
      * @return the saved entity
@@ -62,10 +91,105 @@ public class VersionedJpaRepositoryImpl<T extends VersionedEntity, K extends Ser
     @Override
     @Transactional
     public <S extends T> S save(S versionedEntity) {
-        generateNextVersion(versionedEntity);
+        if (!isLatestVersionUnchanged(versionedEntity)) {
+            generateNextVersion(versionedEntity);
+        }
         return super.save(versionedEntity);
     }
 
+    /**
+     * Persist the new entities directly, so that the entities with assigned identifiers
+     * are inserted without being merged first. The entities are then flushed and detached.
+     * @param versionedEntities the entities to create
+     * @param <S> the versioned entities type
+     * @return the created entities, detached
+     */
+    @Override
+    @Transactional
+    public <S extends T> List<S> createAll(Iterable<S> versionedEntities) {
+        List<S> createdEntities = new ArrayList<>();
+        for (S versionedEntity : versionedEntities) {
+            generateNextVersion(versionedEntity);
+            entityManager.persist(versionedEntity);
+            createdEntities.add(versionedEntity);
+        }
+        entityManager.flush();
+        createdEntities.forEach(this::detach);
+        return createdEntities;
+    }
+
+    @Override
+    public <S extends T> Stream<S> detachingStream(Stream<S> versionedEntities) {
+        Iterator<S> iterator = versionedEntities.iterator();
+        Iterator<S> detachingIterator = new Iterator<S>() {
+
+            private S previous;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public S next() {
+                S next = iterator.next();
+                detachPrevious();
+                previous = next;
+                return next;
+            }
+
+            private void detachPrevious() {
+                if (previous != null) {
+                    detach(previous);
+                    previous = null;
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(detachingIterator,
+                                                                        Spliterator.ORDERED | Spliterator.NONNULL),
+                                    false)
+                .onClose(versionedEntities::close);
+    }
+
+    /**
+     * Detach a versioned entity with its latest version and the versions its latest content is rebuilt from.
+     * @param versionedEntity the entity to detach
+     */
+    protected void detach(T versionedEntity) {
+        VersionEntity latestVersion = versionedEntity.getLatestVersion();
+        entityManager.detach(versionedEntity);
+        if (latestVersion instanceof DeltaVersionEntity) {
+            DeltaVersionEntity<?> deltaVersion = (DeltaVersionEntity<?>) latestVersion;
+            detachVersion(deltaVersion.getSnapshot());
+            if (deltaVersion.getContentVersion() != null) {
+                detachVersion(deltaVersion.getContentVersion().getSnapshot());
+                detachVersion(deltaVersion.getContentVersion());
+            }
+        }
+    }
+
+    private void detachVersion(Object version) {
+        if (version != null) {
+            entityManager.detach(version);
+        }
+    }
+
+    /**
+     * Check if the latest version of a given versioned entity is unchanged since it was stored,
+     * by comparing its stored fingerprint with the fingerprint of its current state.
+     * @param versionedEntity the versioned entity to check
+     * @return true if the latest version is stored and unchanged
+     */
+    protected boolean isLatestVersionUnchanged(T versionedEntity) {
+        VersionEntity latestVersion = versionedEntity.getLatestVersion();
+        if (!(latestVersion instanceof FingerprintVersionEntity) || latestVersion.getVersion() == null) {
+            return false;
+        }
+        FingerprintVersionEntity fingerprintVersion = (FingerprintVersionEntity) latestVersion;
+        return fingerprintVersion.getFingerprint() != null &&
+                fingerprintVersion.getFingerprint().equals(fingerprintVersion.computeFingerprint());
+    }
+
     /**
      * Generate and add a new version to a given version entity.
      * @param versionedEntity the version entity to generate for
@@ -79,6 +203,14 @@ public class VersionedJpaRepositoryImpl<T extends VersionedEntity, K extends Ser
             newVersion.setVersionedEntity(versionedEntity);
             newVersion.setVersionIdentifier(new VersionIdentifier(versionedEntity.getId(),
                                                                   nextVersion));
+            newVersion.setVersionSequence(nextVersionSequence(versionedEntity.getLatestVersion()));
+            if (newVersion instanceof DeltaVersionEntity) {
+                deltaVersionEncoder.encode((DeltaVersionEntity) newVersion,
+                                           (DeltaVersionEntity) versionedEntity.getLatestVersion());
+            }
+            if (newVersion instanceof FingerprintVersionEntity) {
+                ((FingerprintVersionEntity) newVersion).storeFingerprint();
+            }
 
             if (versionedEntity.getVersions() == null) {
                 versionedEntity.setVersions(new ArrayList<>());
@@ -98,4 +230,10 @@ public class VersionedJpaRepositoryImpl<T extends VersionedEntity, K extends Ser
                     e);
         }
     }
+
+    private long nextVersionSequence(VersionEntity latestVersion) {
+        return latestVersion != null && latestVersion.getVersion() != null ?
+                latestVersion.getVersionSequence() + 1 :
+                1;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.activiti.cloud.services.modeling.jpa.codec.ContentCodecs;
+import org.activiti.cloud.services.modeling.jpa.codec.DeflateContentCodec;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ModelVersionEntityTest {
+
+    @Test
+    public void should_failWithClearMessage_when_encodedVersionHasNoCodecRegistry() {
+        ModelVersionEntity version = new ModelVersionEntity();
+        ReflectionTestUtils.setField(version,
+                                     "codec",
+                                     DeflateContentCodec.NAME);
+
+        assertThatThrownBy(version::getExtensions)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No content codec registry")
+                .hasMessageContaining(DeflateContentCodec.NAME);
+    }
+
+    @Test
+    public void should_readVersionAsIs_when_recordedWithoutCodecAndWithoutCodecRegistry() {
+        byte[] content = "legacy".getBytes(StandardCharsets.UTF_8);
+        ModelVersionEntity version = new ModelVersionEntity();
+        ReflectionTestUtils.setField(version,
+                                     "encodedContent",
+                                     content);
+
+        assertThat(version.getStoredContent()).isEqualTo(content);
+        assertThat(version.getExtensions()).isNull();
+    }
+
+    @Test
+    public void should_decodeVersion_when_codecRegistryIsSet() {
+        ContentCodecs contentCodecs = new ContentCodecs(Collections.emptyList(),
+                                                        DeflateContentCodec.NAME);
+        ModelVersionEntity storedVersion = new ModelVersionEntity();
+        storedVersion.setContent(new String(new char[100]).replace("\0", "<task/>").getBytes(StandardCharsets.UTF_8));
+        storedVersion.storeSnapshot();
+        storedVersion.encodeContent(contentCodecs);
+
+        ModelVersionEntity loadedVersion = new ModelVersionEntity();
+        ReflectionTestUtils.setField(loadedVersion,
+                                     "codec",
+                                     ReflectionTestUtils.getField(storedVersion,
+                                                                  "codec"));
+        ReflectionTestUtils.setField(loadedVersion,
+                                     "encodedContent",
+                                     ReflectionTestUtils.getField(storedVersion,
+                                                                  "encodedContent"));
+        loadedVersion.setContentCodecs(contentCodecs);
+
+        assertThat(loadedVersion.getStoredContent()).isEqualTo(storedVersion.getContent());
+    }
+}
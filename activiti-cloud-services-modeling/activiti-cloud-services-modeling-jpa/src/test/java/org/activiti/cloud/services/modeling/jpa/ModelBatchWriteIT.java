@@ -0,0 +1,261 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.activiti.api.runtime.shared.security.SecurityManager;
+import org.activiti.cloud.services.modeling.entity.ModelEntity;
+import org.activiti.cloud.services.modeling.entity.ProjectEntity;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentCodecs;
+import org.activiti.cloud.services.modeling.jpa.codec.ContentRecompressionJob;
+import org.activiti.cloud.services.modeling.jpa.config.ModelingJpaApplication;
+import org.activiti.cloud.services.modeling.jpa.version.VersionRetentionJob;
+import org.activiti.cloud.services.modeling.jpa.version.VersionRetentionPolicy;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JDBC batching check: the statements prepared to write models, versions and projects
+ * do not grow with the number of written rows.
+ * Every version is stored as a snapshot, so that the retention policy keeps only the last one.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ModelingJpaApplication.class,
+        properties = {
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "activiti.modeling.version.snapshot-interval=1"
+        })
+public class ModelBatchWriteIT {
+
+    @Autowired
+    private ProjectJpaRepository projectRepository;
+
+    @Autowired
+    private ModelJpaRepository modelRepository;
+
+    @Autowired
+    private ModelVersionJpaRepository modelVersionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private SecurityManager securityManager;
+
+    private Statistics statistics;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Before
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void should_batchNameGramInserts_when_creatingProjects() {
+        long shortNameStatements = countPreparedStatements(() -> projectRepository.save(new ProjectEntity("batch")));
+        long longNameStatements = countPreparedStatements(() -> projectRepository.save(new ProjectEntity("batch project with a much longer name")));
+
+        assertThat(longNameStatements).isEqualTo(shortNameStatements);
+    }
+
+    @Test
+    public void should_batchModelAndVersionInserts_when_creatingModels() {
+        ProjectEntity project = projectRepository.save(new ProjectEntity("batch-create"));
+
+        long fewModelsStatements = countPreparedStatements(() -> modelRepository.createModels(newModels(project,
+                                                                                                        "few",
+                                                                                                        5)));
+        long manyModelsStatements = countPreparedStatements(() -> modelRepository.createModels(newModels(project,
+                                                                                                         "many",
+                                                                                                         20)));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(40);
+        assertThat(manyModelsStatements).isEqualTo(fewModelsStatements);
+    }
+
+    @Test
+    public void should_batchVersionInsertsAndModelUpdates_when_savingModels() {
+        ProjectEntity project = projectRepository.save(new ProjectEntity("batch-save"));
+        List<String> fewModelIds = createModelIds(project,
+                                                  "few",
+                                                  5);
+        List<String> manyModelIds = createModelIds(project,
+                                                   "many",
+                                                   20);
+
+        long fewModelsStatements = countSaveModelsStatements(fewModelIds);
+        long manyModelsStatements = countSaveModelsStatements(manyModelIds);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(manyModelsStatements).isEqualTo(fewModelsStatements);
+        assertThat(modelRepository.findById(manyModelIds.get(0)))
+                .hasValueSatisfying(model -> assertThat(model.getVersion()).isEqualTo("0.0.2"));
+    }
+
+    @Test
+    public void should_batchVersionUpdates_when_recompressingContent() {
+        ContentRecompressionJob recompressionJob = new ContentRecompressionJob(modelVersionRepository,
+                                                                               transactionTemplate,
+                                                                               new ContentCodecs(Collections.emptyList(),
+                                                                                                 ContentCodecs.NONE.getName()),
+                                                                               100,
+                                                                               60);
+        recompressionJob.run();
+        ProjectEntity project = projectRepository.save(new ProjectEntity("batch-recompress"));
+
+        modelRepository.createModels(newModels(project,
+                                               "few",
+                                               5));
+        long fewVersionsStatements = countPreparedStatements(recompressionJob::run);
+        modelRepository.createModels(newModels(project,
+                                               "many",
+                                               20));
+        long manyVersionsStatements = countPreparedStatements(recompressionJob::run);
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(20);
+        assertThat(manyVersionsStatements).isEqualTo(fewVersionsStatements);
+    }
+
+    @Test
+    public void should_batchVersionDeletes_when_applyingRetention() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VersionRetentionJob retentionJob = new VersionRetentionJob(modelVersionRepository,
+                                                                   transactionTemplate,
+                                                                   new VersionRetentionPolicy(1,
+                                                                                              Duration.ZERO,
+                                                                                              Duration.ZERO),
+                                                                   100,
+                                                                   50,
+                                                                   60,
+                                                                   Clock.offset(Clock.systemUTC(),
+                                                                                Duration.ofMinutes(1)),
+                                                                   meterRegistry);
+        retentionJob.run();
+        ProjectEntity project = projectRepository.save(new ProjectEntity("batch-retention"));
+
+        String fewVersionsModelId = createModelWithVersions(project,
+                                                            "few",
+                                                            5);
+        long fewVersionsStatements = countPreparedStatements(retentionJob::run);
+        String manyVersionsModelId = createModelWithVersions(project,
+                                                             "many",
+                                                             20);
+        long manyVersionsStatements = countPreparedStatements(retentionJob::run);
+
+        assertThat(modelVersionRepository.findRetentionRecords(fewVersionsModelId)).hasSize(1);
+        assertThat(modelVersionRepository.findRetentionRecords(manyVersionsModelId)).hasSize(1);
+        assertThat(manyVersionsStatements).isEqualTo(fewVersionsStatements);
+        assertThat(meterRegistry.get("modeling.model.versions.retention.reclaimed").counter().count()).isPositive();
+    }
+
+    private long countPreparedStatements(Runnable work) {
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countSaveModelsStatements(List<String> modelIds) {
+        return transactionTemplate.execute(status -> {
+            List<ModelEntity> models = modelRepository.findAllById(modelIds);
+            models.forEach(model -> model.setContent(("updated content of " + model.getId()).getBytes(StandardCharsets.UTF_8)));
+            return countPreparedStatements(() -> {
+                modelRepository.saveModels(models);
+                entityManager.flush();
+            });
+        });
+    }
+
+    private String createModelWithVersions(ProjectEntity project,
+                                           String name,
+                                           int versionsCount) {
+        ModelEntity model = modelRepository.createModels(newModels(project,
+                                                                   name,
+                                                                   1)).get(0);
+        for (int i = 2; i <= versionsCount; i++) {
+            model.setContent(("content " + i + " of " + model.getId()).getBytes(StandardCharsets.UTF_8));
+            model = modelRepository.save(model);
+        }
+        return model.getId();
+    }
+
+    private List<String> createModelIds(ProjectEntity project,
+                                        String namePrefix,
+                                        int count) {
+        return modelRepository.createModels(newModels(project,
+                                                      namePrefix,
+                                                      count))
+                .stream()
+                .map(ModelEntity::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<ModelEntity> newModels(ProjectEntity project,
+                                        String namePrefix,
+                                        int count) {
+        List<ModelEntity> models = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            ModelEntity model = new ModelEntity(namePrefix + "-process-" + i,
+                                                "PROCESS");
+            model.setId(UUID.randomUUID().toString());
+            model.setProject(project);
+            model.setContentType("text/plain");
+            model.setContent(repeat("content of " + model.getId(),
+                                    10).getBytes(StandardCharsets.UTF_8));
+            models.add(model);
+        }
+        return models;
+    }
+
+    private static String repeat(String value,
+                                 int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.activiti.api.runtime.shared.security.SecurityManager;
+import org.activiti.cloud.services.modeling.entity.ModelEntity;
+import org.activiti.cloud.services.modeling.entity.ProjectEntity;
+import org.activiti.cloud.services.modeling.jpa.config.ModelingJpaApplication;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ModelingJpaApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class ModelStreamIT {
+
+    @Autowired
+    private ProjectJpaRepository projectRepository;
+
+    @Autowired
+    private ModelJpaRepository modelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private SecurityManager securityManager;
+
+    private Statistics statistics;
+
+    private ProjectEntity project;
+
+    @Before
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        project = projectRepository.save(new ProjectEntity("stream-models"));
+        modelRepository.save(newModel("process-b",
+                                      "PROCESS"));
+        modelRepository.save(newModel("process-a",
+                                      "PROCESS"));
+        modelRepository.save(newModel("connector-a",
+                                      "CONNECTOR"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void should_getAllModelsWithLatestVersion_when_gettingAllModelsInSingleQuery() {
+        statistics.clear();
+
+        List<ModelEntity> models = modelRepository.getAllModels(project);
+
+        assertThat(models)
+                .extracting(ModelEntity::getName)
+                .containsExactlyInAnyOrder("process-a",
+                                           "process-b",
+                                           "connector-a");
+        assertThat(models)
+                .extracting(model -> new String(model.getContent(),
+                                                StandardCharsets.UTF_8))
+                .containsExactlyInAnyOrder("content of process-a",
+                                           "content of process-b",
+                                           "content of connector-a");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_detachEachModel_when_streamingAllModels() {
+        List<String> contents = new ArrayList<>();
+        List<ModelEntity> streamedModels = new ArrayList<>();
+        statistics.clear();
+
+        try (Stream<ModelEntity> models = modelRepository.streamAllModels(project)) {
+            models.forEach(model -> {
+                streamedModels.forEach(previousModel -> assertThat(entityManager.contains(previousModel)).isFalse());
+                assertThat(entityManager.contains(model)).isTrue();
+                contents.add(new String(model.getContent(),
+                                        StandardCharsets.UTF_8));
+                streamedModels.add(model);
+            });
+        }
+
+        assertThat(contents).containsExactly("content of connector-a",
+                                             "content of process-a",
+                                             "content of process-b");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private ModelEntity newModel(String name,
+                                 String type) {
+        ModelEntity model = new ModelEntity(name,
+                                            type);
+        model.setProject(project);
+        model.setContentType("text/plain");
+        model.setContent(("content of " + name).getBytes(StandardCharsets.UTF_8));
+        return model;
+    }
+}
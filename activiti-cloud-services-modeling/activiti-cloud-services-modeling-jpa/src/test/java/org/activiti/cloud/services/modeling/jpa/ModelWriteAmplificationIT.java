@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.activiti.api.runtime.shared.security.SecurityManager;
+import org.activiti.cloud.services.modeling.entity.ModelEntity;
+import org.activiti.cloud.services.modeling.entity.ProjectEntity;
+import org.activiti.cloud.services.modeling.jpa.config.ModelingJpaApplication;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Write amplification check: the rows written when creating models and saving new versions.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ModelingJpaApplication.class,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "org.activiti.cloud.services.modeling.jpa.ModelWriteAmplificationIT$RecordingStatementInspector")
+public class ModelWriteAmplificationIT {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ProjectJpaRepository projectRepository;
+
+    @Autowired
+    private ModelJpaRepository modelRepository;
+
+    @MockBean
+    private SecurityManager securityManager;
+
+    @Before
+    public void setUp() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    public void should_writeOnlyModelAndVersionRows_when_savingModelVersions() {
+        ProjectEntity project = projectRepository.save(new ProjectEntity("write-amplification"));
+
+        STATEMENTS.clear();
+        ModelEntity model = new ModelEntity("process-x",
+                                            "PROCESS");
+        model.setProject(project);
+        model.setContentType("text/plain");
+        model.setContent("content 1".getBytes(StandardCharsets.UTF_8));
+        model = modelRepository.save(model);
+
+        assertThat(insertedTables()).containsExactlyInAnyOrder("model",
+                                                               "model_version");
+
+        for (int i = 2; i <= 10; i++) {
+            STATEMENTS.clear();
+            model.setContent(("content " + i).getBytes(StandardCharsets.UTF_8));
+            model = modelRepository.save(model);
+
+            assertThat(insertedTables()).containsExactly("model_version");
+            assertThat(STATEMENTS).noneMatch(ModelWriteAmplificationIT::isJoinTableStatement);
+        }
+
+        STATEMENTS.clear();
+        modelRepository.delete(model);
+
+        assertThat(STATEMENTS).noneMatch(ModelWriteAmplificationIT::isJoinTableStatement);
+    }
+
+    @Test
+    public void should_writeEachModelOnce_when_creatingModelsWithAssignedIds() {
+        ProjectEntity project = projectRepository.save(new ProjectEntity("single-write"));
+
+        List<ModelEntity> models = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ModelEntity model = new ModelEntity("process-" + i,
+                                                "PROCESS");
+            model.setId(UUID.randomUUID().toString());
+            model.setProject(project);
+            model.setContentType("text/plain");
+            model.setContent(("content of " + model.getId()).getBytes(StandardCharsets.UTF_8));
+            model.setExtensions(Collections.singletonMap("key",
+                                                         "value"));
+            models.add(model);
+        }
+
+        STATEMENTS.clear();
+        modelRepository.createModels(models);
+
+        assertThat(insertedTables()).containsExactlyInAnyOrder("model",
+                                                               "model",
+                                                               "model",
+                                                               "model_version",
+                                                               "model_version",
+                                                               "model_version");
+        assertThat(modelRepository.findById(models.get(0).getId()))
+                .hasValueSatisfying(model -> assertThat(model.getVersion()).isEqualTo("0.0.1"));
+    }
+
+    private static List<String> insertedTables() {
+        return STATEMENTS.stream()
+                .filter(statement -> statement.startsWith("insert into "))
+                .map(statement -> statement.substring("insert into ".length()).split("[\\s(]")[0])
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isJoinTableStatement(String statement) {
+        return statement.contains("project_models") || statement.contains("model_versions");
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+    }
+}
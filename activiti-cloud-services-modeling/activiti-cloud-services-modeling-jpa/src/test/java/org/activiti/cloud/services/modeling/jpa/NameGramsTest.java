@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class NameGramsTest {
+
+    @Test
+    public void should_returnPaddedTrigrams_when_gettingNameGrams() {
+        assertThat(NameGrams.of("Main")).containsExactlyInAnyOrder("  m",
+                                                                   " ma",
+                                                                   "mai",
+                                                                   "ain",
+                                                                   "in ");
+    }
+
+    @Test
+    public void should_returnLeadingGram_when_searchingTextShorterThanTrigram() {
+        assertThat(NameGrams.search("m")).containsExactly("  m");
+        assertThat(NameGrams.search("ma")).containsExactly(" ma");
+        assertThat(NameGrams.of("main")).containsAll(NameGrams.search("ma"));
+        assertThat(NameGrams.of("domain")).doesNotContainAnyElementsOf(NameGrams.search("ma"));
+    }
+
+    @Test
+    public void should_returnUnpaddedTrigrams_when_searchingSubstring() {
+        assertThat(NameGrams.search("MAIN")).containsExactlyInAnyOrder("mai",
+                                                                       "ain");
+        assertThat(NameGrams.of("project-main-1")).containsAll(NameGrams.search("main"));
+        assertThat(NameGrams.of("project-secondary-2")).doesNotContainAnyElementsOf(NameGrams.search("main"));
+    }
+
+    @Test
+    public void should_returnNoGram_when_searchingEmptyText() {
+        assertThat(NameGrams.search("")).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.activiti.api.runtime.shared.security.SecurityManager;
+import org.activiti.cloud.services.modeling.entity.ProjectEntity;
+import org.activiti.cloud.services.modeling.jpa.config.ModelingJpaApplication;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ModelingJpaApplication.class)
+@Transactional
+public class ProjectNameSearchIT {
+
+    @Autowired
+    private ProjectJpaRepository projectRepository;
+
+    @MockBean
+    private SecurityManager securityManager;
+
+    @Before
+    public void setUp() {
+        projectRepository.save(new ProjectEntity("domain-main"));
+        projectRepository.save(new ProjectEntity("main"));
+        projectRepository.save(new ProjectEntity("main-project"));
+        projectRepository.save(new ProjectEntity("maintenance"));
+        projectRepository.save(new ProjectEntity("secondary"));
+    }
+
+    @Test
+    public void should_returnExactThenPrefixThenSubstringMatches_when_searchingProjectsByName() {
+        assertThat(projectRepository.getProjects(PageRequest.of(0,
+                                                                10),
+                                                 "main"))
+                .extracting(ProjectEntity::getName)
+                .containsExactly("main",
+                                 "maintenance",
+                                 "main-project",
+                                 "domain-main");
+    }
+
+    @Test
+    public void should_returnPrefixMatches_when_searchingProjectsByShortName() {
+        assertThat(projectRepository.getProjects(PageRequest.of(0,
+                                                                10),
+                                                 "ma"))
+                .extracting(ProjectEntity::getName)
+                .containsExactly("main",
+                                 "maintenance",
+                                 "main-project");
+    }
+
+    @Test
+    public void should_searchNewName_when_renamingProject() {
+        ProjectEntity project = projectRepository.getProjects(PageRequest.of(0,
+                                                                             10),
+                                                              "secondary")
+                .getContent()
+                .get(0);
+        project.setName("renamed");
+        projectRepository.save(project);
+
+        assertThat(projectRepository.getProjects(PageRequest.of(0,
+                                                                10),
+                                                 "secondary")).isEmpty();
+        assertThat(projectRepository.getProjects(PageRequest.of(0,
+                                                                10),
+                                                 "name"))
+                .extracting(ProjectEntity::getName)
+                .containsExactly("renamed");
+    }
+}
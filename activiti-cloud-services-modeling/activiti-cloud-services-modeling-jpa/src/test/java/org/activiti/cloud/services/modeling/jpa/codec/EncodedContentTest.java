@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+
+public class EncodedContentTest {
+
+    private final ContentCodecs contentCodecs = new ContentCodecs(Collections.emptyList(),
+                                                                  DeflateContentCodec.NAME);
+
+    @Test
+    public void should_decodeOriginalContent_when_encodedWithDefaultCodec() {
+        byte[] content = repeat("<bpmn2:task id=\"task\"/>\n",
+                                200).getBytes(StandardCharsets.UTF_8);
+        String text = repeat("{\"properties\":{}}",
+                             50);
+
+        EncodedContent encoded = EncodedContent.encode(contentCodecs,
+                                                       content,
+                                                       text);
+
+        assertThat(encoded.getCodec()).isEqualTo(DeflateContentCodec.NAME);
+        assertThat(encoded.getContent().length).isLessThan(content.length / 4);
+        assertThat(encoded.decodeContent(contentCodecs)).isEqualTo(content);
+        assertThat(encoded.decodeText(contentCodecs)).isEqualTo(text);
+    }
+
+    @Test
+    public void should_readContentAsIs_when_recordedWithoutCodec() {
+        byte[] content = "legacy".getBytes(StandardCharsets.UTF_8);
+
+        EncodedContent encoded = new EncodedContent(null,
+                                                    content,
+                                                    "{}");
+
+        assertThat(encoded.decodeContent(contentCodecs)).isEqualTo(content);
+        assertThat(encoded.decodeText(contentCodecs)).isEqualTo("{}");
+        assertThat(encoded.recode(contentCodecs).decodeContent(contentCodecs)).isEqualTo(content);
+    }
+
+    @Test
+    public void should_storeContentAsIs_when_codecDoesNotMakeItSmaller() {
+        byte[] content = new byte[64];
+        new Random(0).nextBytes(content);
+
+        EncodedContent encoded = EncodedContent.encode(contentCodecs,
+                                                       content,
+                                                       null);
+
+        assertThat(encoded.getCodec()).isEqualTo(ContentCodecs.NONE.getName());
+        assertThat(encoded.getContent()).isSameAs(content);
+        assertThat(encoded.decodeText(contentCodecs)).isNull();
+    }
+
+    @Test
+    public void should_throwDataRetrievalFailure_when_codecIsUnknown() {
+        EncodedContent encoded = new EncodedContent("unknown",
+                                                    new byte[0],
+                                                    null);
+
+        assertThatThrownBy(() -> encoded.decodeContent(contentCodecs))
+                .isInstanceOf(DataRetrievalFailureException.class);
+    }
+
+    private static String repeat(String value,
+                                 int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.activiti.cloud.services.modeling.entity.ModelVersionEntity;
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+public class DeltaVersionEncoderTest {
+
+    private DeltaVersionEncoder deltaVersionEncoder = new DeltaVersionEncoder(10);
+
+    @Test
+    public void should_rebuildTarget_when_applyingEncodedDelta() {
+        byte[] source = content(0);
+        byte[] target = content(1);
+
+        byte[] delta = ContentDelta.encode(source,
+                                           target);
+
+        assertThat(delta.length).isLessThan(target.length / 10);
+        assertThat(ContentDelta.apply(source,
+                                      delta)).isEqualTo(target);
+    }
+
+    @Test
+    public void should_rebuildTarget_when_contentsHaveNothingInCommon() {
+        byte[] source = "short".getBytes(StandardCharsets.UTF_8);
+        byte[] target = content(3);
+
+        assertThat(ContentDelta.apply(source,
+                                      ContentDelta.encode(source,
+                                                          target))).isEqualTo(target);
+        assertThat(ContentDelta.apply(target,
+                                      ContentDelta.encode(target,
+                                                          new byte[0]))).isEmpty();
+    }
+
+    @Test
+    public void should_throwDataIntegrityViolationException_when_deltaIsCorrupted() {
+        byte[] source = content(0);
+        byte[] delta = ContentDelta.encode(source,
+                                           content(1));
+
+        assertThatThrownBy(() -> ContentDelta.apply(source,
+                                                    new byte[]{delta[0], delta[1]}))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    public void should_storeSnapshotsAtInterval_when_encodingSuccessiveVersions() {
+        List<ModelVersionEntity> versions = new ArrayList<>();
+        ModelVersionEntity previousVersion = new ModelVersionEntity();
+        for (int i = 0; i < 25; i++) {
+            ModelVersionEntity version = new ModelVersionEntity(previousVersion);
+            version.setContent(content(i));
+            deltaVersionEncoder.encode(version,
+                                       previousVersion);
+            versions.add(version);
+            previousVersion = version;
+        }
+
+        assertThat(versions)
+                .extracting(ModelVersionEntity::getSnapshotDistance)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
+                                 0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
+                                 0, 1, 2, 3, 4);
+        assertThat(versions.get(5).getSnapshot()).isSameAs(versions.get(0));
+        assertThat(versions.get(5).getStoredContent().length).isLessThan(content(5).length / 10);
+        assertThat(versions.get(10).getStoredContent()).isEqualTo(content(10));
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(restore(versions.get(i))).isEqualTo(content(i));
+        }
+    }
+
+    @Test
+    public void should_storeSnapshot_when_deltaIsNotSmallerThanContent() {
+        ModelVersionEntity previousVersion = new ModelVersionEntity();
+        previousVersion.setContent(content(0));
+        previousVersion.storeSnapshot();
+
+        ModelVersionEntity version = new ModelVersionEntity();
+        byte[] content = "a completely different content".getBytes(StandardCharsets.UTF_8);
+        version.setContent(content);
+        deltaVersionEncoder.encode(version,
+                                   previousVersion);
+
+        assertThat(version.getSnapshot()).isNull();
+        assertThat(version.getStoredContent()).isEqualTo(content);
+    }
+
+    @Test
+    public void should_shareContentOfPreviousVersion_when_onlyExtensionsChange() {
+        ModelVersionEntity firstVersion = new ModelVersionEntity();
+        firstVersion.setContent(content(0));
+        deltaVersionEncoder.encode(firstVersion,
+                                   new ModelVersionEntity());
+
+        ModelVersionEntity secondVersion = new ModelVersionEntity(firstVersion);
+        secondVersion.setExtensions(Collections.singletonMap("key",
+                                                             "value"));
+        deltaVersionEncoder.encode(secondVersion,
+                                   firstVersion);
+
+        ModelVersionEntity thirdVersion = new ModelVersionEntity(secondVersion);
+        deltaVersionEncoder.encode(thirdVersion,
+                                   secondVersion);
+
+        ModelVersionEntity fourthVersion = new ModelVersionEntity(thirdVersion);
+        fourthVersion.setContent(content(1));
+        deltaVersionEncoder.encode(fourthVersion,
+                                   thirdVersion);
+
+        assertThat(secondVersion.getStoredContent()).isNull();
+        assertThat(secondVersion.getContentVersion()).isSameAs(firstVersion);
+        assertThat(thirdVersion.getStoredContent()).isNull();
+        assertThat(thirdVersion.getContentVersion()).isSameAs(firstVersion);
+        assertThat(thirdVersion.getSnapshotDistance()).isZero();
+        assertThat(fourthVersion.getContentVersion()).isNull();
+        assertThat(fourthVersion.getSnapshot()).isSameAs(firstVersion);
+        assertThat(fourthVersion.getSnapshotDistance()).isEqualTo(1);
+        assertThat(restore(thirdVersion)).isEqualTo(content(0));
+        assertThat(restore(fourthVersion)).isEqualTo(content(1));
+    }
+
+    private byte[] restore(ModelVersionEntity version) {
+        if (version.getContentVersion() != null) {
+            return restore(version.getContentVersion());
+        }
+        return version.getSnapshot() == null ?
+                version.getStoredContent() :
+                ContentDelta.apply(version.getSnapshot().getStoredContent(),
+                                   version.getStoredContent());
+    }
+
+    private byte[] content(int revision) {
+        StringBuilder content = new StringBuilder("<definitions>");
+        for (int i = 0; i < 200; i++) {
+            content.append("<task id=\"task-").append(i).append("\" name=\"Task ").append(i);
+            if (i % 50 == 0) {
+                content.append(" revision ").append(revision);
+            }
+            content.append("\"/>");
+        }
+        return content.append("</definitions>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.jpa.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.activiti.cloud.services.modeling.jpa.version.VersionRetentionPolicy.VersionRecord;
+import org.junit.Test;
+
+public class VersionRetentionPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2020-06-30T12:00:00Z");
+
+    private VersionRetentionPolicy retentionPolicy = new VersionRetentionPolicy(3,
+                                                                                Duration.ofDays(2),
+                                                                                Duration.ofDays(10));
+
+    @Test
+    public void should_keepLastAndRecentVersions_when_selectingVersionsToDelete() {
+        List<VersionRecord> versions = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            versions.add(version(i,
+                                 NOW.minus(Duration.ofHours(7 - i)),
+                                 null,
+                                 null));
+        }
+
+        assertThat(retentionPolicy.selectVersionsToDelete(versions,
+                                                          NOW)).isEmpty();
+    }
+
+    @Test
+    public void should_keepOneVersionPerDay_when_versionsAreOlderThanKeepAllPeriod() {
+        List<VersionRecord> versions = new ArrayList<>();
+        versions.add(version(1,
+                             NOW.minus(Duration.ofDays(20)),
+                             null,
+                             null));
+        versions.add(version(2,
+                             NOW.minus(Duration.ofDays(5).plusHours(2)),
+                             null,
+                             null));
+        versions.add(version(3,
+                             NOW.minus(Duration.ofDays(5).plusHours(1)),
+                             null,
+                             null));
+        for (int i = 4; i <= 6; i++) {
+            versions.add(version(i,
+                                 NOW.minus(Duration.ofHours(1)),
+                                 null,
+                                 null));
+        }
+
+        assertThat(retentionPolicy.selectVersionsToDelete(versions,
+                                                          NOW)).containsExactlyInAnyOrder("0.0.1",
+                                                                                          "0.0.2");
+    }
+
+    @Test
+    public void should_keepReferencedVersions_when_keptVersionsDependOnThem() {
+        List<VersionRecord> versions = new ArrayList<>();
+        versions.add(version(1,
+                             NOW.minus(Duration.ofDays(30)),
+                             null,
+                             null));
+        versions.add(version(2,
+                             NOW.minus(Duration.ofDays(30)),
+                             "0.0.1",
+                             null));
+        versions.add(version(3,
+                             NOW.minus(Duration.ofDays(30)),
+                             "0.0.1",
+                             null));
+        versions.add(version(4,
+                             NOW.minus(Duration.ofDays(30)),
+                             null,
+                             null));
+        versions.add(version(5,
+                             NOW,
+                             null,
+                             "0.0.3"));
+        versions.add(version(6,
+                             NOW,
+                             "0.0.4",
+                             null));
+
+        assertThat(retentionPolicy.selectVersionsToDelete(versions,
+                                                          NOW)).containsExactly("0.0.2");
+    }
+
+    private VersionRecord version(long sequence,
+                                  Instant creationDate,
+                                  String snapshotVersion,
+                                  String contentVersion) {
+        return new VersionRecord("0.0." + sequence,
+                                 sequence,
+                                 Date.from(creationDate),
+                                 snapshotVersion,
+                                 contentVersion);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.modeling.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a list sorted by a key and then by id, used for keyset pagination.
+ * The cursor is exchanged as an opaque url-safe string.
+ */
+public class KeysetCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String key;
+
+    private final String id;
+
+    public KeysetCursor(String key,
+                        String id) {
+        this.key = Objects.requireNonNull(key);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    /**
+     * Cursor positioned before all the elements.
+     * @return the first cursor
+     */
+    public static KeysetCursor first() {
+        return new KeysetCursor("",
+                                "");
+    }
+
+    /**
+     * Decode a cursor from its string form.
+     * @param cursor the encoded cursor
+     * @return the decoded cursor, or the first cursor for an empty string
+     * @throws IllegalArgumentException if the given string is not a valid cursor
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor.isEmpty()) {
+            return first();
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                                    StandardCharsets.UTF_8);
+        int separatorIndex = decoded.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new KeysetCursor(decoded.substring(separatorIndex + 1),
+                                decoded.substring(0,
+                                                  separatorIndex));
+    }
+
+    public boolean isFirst() {
+        return key.isEmpty() && id.isEmpty();
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((id + SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -16,11 +16,16 @@
 
 package org.activiti.cloud.modeling.repository;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.activiti.cloud.modeling.api.Project;
 import org.activiti.cloud.modeling.api.Model;
+import org.activiti.cloud.modeling.api.ModelSummary;
 import org.activiti.cloud.modeling.api.ModelType;
+import org.activiti.cloud.modeling.api.ModelVersion;
 import org.activiti.cloud.services.common.file.FileContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -34,14 +39,120 @@ public interface ModelRepository<P extends Project, M extends Model<P, ?>> {
                       ModelType modelTypeFilter,
                       Pageable pageable);
 
+    /**
+     * Get the summaries of the models of a project, without reading their content nor their extensions.
+     * @param project the project
+     * @param modelTypeFilter the type of the models
+     * @param pageable the page request
+     * @return the page of model summaries
+     */
+    Page<? extends ModelSummary<?>> getModelSummaries(P project,
+                                                      ModelType modelTypeFilter,
+                                                      Pageable pageable);
+
+    /**
+     * Get the summaries of the models of a project following a cursor, sorted by name and id.
+     * @param project the project
+     * @param modelTypeFilter the type of the models
+     * @param cursor the cursor to get the following models of
+     * @param size the maximum number of models to get
+     * @return the model summaries following the cursor
+     */
+    List<? extends ModelSummary<?>> getModelSummariesAfter(P project,
+                                                           ModelType modelTypeFilter,
+                                                           KeysetCursor cursor,
+                                                           int size);
+
+    /**
+     * Get the summaries of the models of a project preceding a cursor, sorted by name and id.
+     * @param project the project
+     * @param modelTypeFilter the type of the models
+     * @param cursor the cursor to get the preceding models of
+     * @param size the maximum number of models to get
+     * @return the model summaries preceding the cursor, closest last
+     */
+    List<? extends ModelSummary<?>> getModelSummariesBefore(P project,
+                                                            ModelType modelTypeFilter,
+                                                            KeysetCursor cursor,
+                                                            int size);
+
     Optional<M> findModelById(String modelId);
 
+    /**
+     * Get all the models of a project with their latest version, in a single query.
+     * @param project the project
+     * @return the models of the project
+     */
+    List<M> getAllModels(P project);
+
+    /**
+     * Stream all the models of a project with their latest version, read one at a time through a database cursor.
+     * The stream must be consumed within a transaction and closed by the caller.
+     * The models are released as the stream goes on, so they must not be kept once the next one is read.
+     * @param project the project
+     * @return the stream of the models of the project, sorted by type and name
+     */
+    Stream<M> streamAllModels(P project);
+
     byte[] getModelContent(M model);
 
     byte[] getModelExport(M model);
 
+    /**
+     * Open a stream on the content of a model.
+     * @param model the model
+     * @return the content stream, to be closed by the caller
+     */
+    InputStream getModelContentStream(M model);
+
+    /**
+     * Open a stream on the export of a model.
+     * @param model the model
+     * @return the export stream, to be closed by the caller
+     */
+    InputStream getModelExportStream(M model);
+
+    /**
+     * Get the versions of a model, latest first, without reading their content.
+     * The versions are paginated by seek: only the versions older than a given version sequence are returned.
+     * @param model the model
+     * @param beforeVersionSequence the version sequence to get the older versions of, or null to start from the latest version
+     * @param size the maximum number of versions to get
+     * @return the model versions
+     */
+    List<? extends ModelVersion<?>> getModelVersions(M model,
+                                                     Long beforeVersionSequence,
+                                                     int size);
+
+    Optional<? extends ModelVersion<?>> findModelVersion(M model,
+                                                         String version);
+
+    /**
+     * Open a stream on the content of a model version.
+     * @param modelVersion the model version
+     * @return the content stream, to be closed by the caller
+     */
+    InputStream getModelVersionContentStream(ModelVersion<?> modelVersion);
+
     M createModel(M model);
 
+    /**
+     * Create new models, each stored once with a single version holding its content and extensions.
+     * The models may have identifiers assigned beforehand, to be referenced before they are created.
+     * The created models are written and released at once, so that creating models by chunks keeps a bounded memory footprint.
+     * @param models the models to create
+     * @return the created models
+     */
+    List<M> createModels(List<M> models);
+
+    /**
+     * Save the given models together, adding a new version to each changed model.
+     * The writes of all the models are flushed at once, so that they can be sent in JDBC batches.
+     * @param models the models to save
+     * @return the saved models
+     */
+    List<M> saveModels(List<M> models);
+
     M updateModel(M modelToUpdate,
                   M newModel);
 
@@ -50,5 +161,13 @@ public interface ModelRepository<P extends Project, M extends Model<P, ?>> {
 
     void deleteModel(M model);
 
+    /**
+     * Delete all the models of a project together with their versions, using a few set-based statements
+     * instead of loading and deleting each model.
+     * @param project the project of the models to delete
+     * @return the number of deleted models
+     */
+    int deleteAllModels(P project);
+
     Class<M> getModelType();
 }
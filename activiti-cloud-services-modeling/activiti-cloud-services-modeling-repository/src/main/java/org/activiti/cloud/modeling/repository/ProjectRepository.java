@@ -16,6 +16,7 @@
 
 package org.activiti.cloud.modeling.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.activiti.cloud.modeling.api.Project;
@@ -30,6 +31,28 @@ public interface ProjectRepository<P extends Project> {
     Page<P> getProjects(Pageable pageable,
                         String nameToFilter);
 
+    /**
+     * Get the projects following a cursor, sorted by name and id.
+     * @param nameToFilter the name to filter the projects by, or null
+     * @param cursor the cursor to get the following projects of
+     * @param size the maximum number of projects to get
+     * @return the projects following the cursor
+     */
+    List<P> getProjectsAfter(String nameToFilter,
+                             KeysetCursor cursor,
+                             int size);
+
+    /**
+     * Get the projects preceding a cursor, sorted by name and id.
+     * @param nameToFilter the name to filter the projects by, or null
+     * @param cursor the cursor to get the preceding projects of
+     * @param size the maximum number of projects to get
+     * @return the projects preceding the cursor, closest last
+     */
+    List<P> getProjectsBefore(String nameToFilter,
+                              KeysetCursor cursor,
+                              int size);
+
     Optional<P> findProjectById(String projectId);
 
     P createProject(P project);
@@ -23,10 +23,13 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.activiti.cloud.modeling.api.Model;
+import org.activiti.cloud.modeling.api.ModelSummary;
 import org.activiti.cloud.modeling.api.ModelType;
+import org.activiti.cloud.modeling.api.ModelVersion;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -44,6 +47,10 @@ import static org.activiti.cloud.services.common.util.ContentTypeUtils.CONTENT_T
 import static org.activiti.cloud.services.modeling.rest.api.ModelRestApi.MODELS;
 import static org.activiti.cloud.services.modeling.rest.config.RepositoryRestConfig.API_VERSION;
 import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.ATTACHMENT_API_PARAM_DESCR;
+import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.CURSOR_AFTER_PARAM_DESCR;
+import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.CURSOR_AFTER_PARAM_NAME;
+import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.CURSOR_BEFORE_PARAM_DESCR;
+import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.CURSOR_BEFORE_PARAM_NAME;
 import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.EXPORT_AS_ATTACHMENT_PARAM_NAME;
 import static org.activiti.cloud.services.modeling.rest.controller.ProjectController.UPLOAD_FILE_PARAM_NAME;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
@@ -94,22 +101,41 @@ public interface ModelRestApi {
 
     String VALIDATE_EXTENSIONS_FILE_PARAM_DESCR = "The file containing the model extensions to validate";
 
+    String GET_MODEL_VERSIONS_ID_PARAM_DESCR = "The id of the model to get the versions for";
+
+    String GET_MODEL_VERSIONS_BEFORE_PARAM_DESCR = "The version sequence to get the older versions of, as given by the next link";
+
+    String GET_MODEL_VERSIONS_SIZE_PARAM_DESCR = "The maximum number of versions to get";
+
+    String GET_MODEL_VERSION_PARAM_DESCR = "The version of the model to get the content";
+
     String MODEL_TYPE_PARAM_NAME = "type";
 
+    String VERSIONS_BEFORE_PARAM_NAME = "before";
+
+    String VERSIONS_SIZE_PARAM_NAME = "size";
+
     @ApiOperation(
             tags = MODELS,
             value = "List models for an project",
             notes = "Get the models associated with an project. " +
-                    "Minimal information for each model is returned."
+                    "Minimal information for each model is returned. " +
+                    "Given a cursor, the models are sorted by name and paginated from the cursor."
             //response = AlfrescoModelPage.class
     )
     @GetMapping(path = "/projects/{projectId}/models")
-    PagedResources<Resource<Model>> getModels(
+    PagedResources<Resource<ModelSummary>> getModels(
             @ApiParam(value = GET_MODELS_PROJECT_ID_PARAM_DESCR, required = true)
             @PathVariable String projectId,
             @ApiParam(GET_MODELS_TYPE_PARAM_DESCR)
             @RequestParam(MODEL_TYPE_PARAM_NAME) String type,
-            Pageable pageable);
+            Pageable pageable,
+            @ApiParam(CURSOR_AFTER_PARAM_DESCR)
+            @RequestParam(name = CURSOR_AFTER_PARAM_NAME,
+                    required = false) String after,
+            @ApiParam(CURSOR_BEFORE_PARAM_DESCR)
+            @RequestParam(name = CURSOR_BEFORE_PARAM_NAME,
+                    required = false) String before);
 
     @ApiOperation(
             tags = MODELS,
@@ -183,6 +209,34 @@ public interface ModelRestApi {
             @ApiParam(value = GET_MODEL_CONTENT_ID_PARAM_DESCR, required = true)
             @PathVariable String modelId) throws IOException;
 
+    @ApiOperation(
+            tags = MODELS,
+            value = "List the versions of a model",
+            notes = "Get the versions of a model, latest first, without their content. " +
+                    "The versions are paginated by version sequence: the next page is given by the next link.")
+    @GetMapping(path = "/models/{modelId}/versions")
+    Resources<Resource<ModelVersion>> getModelVersions(
+            @ApiParam(value = GET_MODEL_VERSIONS_ID_PARAM_DESCR, required = true)
+            @PathVariable String modelId,
+            @ApiParam(GET_MODEL_VERSIONS_BEFORE_PARAM_DESCR)
+            @RequestParam(name = VERSIONS_BEFORE_PARAM_NAME,
+                    required = false) Long beforeVersionSequence,
+            @ApiParam(GET_MODEL_VERSIONS_SIZE_PARAM_DESCR)
+            @RequestParam(name = VERSIONS_SIZE_PARAM_NAME,
+                    required = false) Integer size);
+
+    @ApiOperation(
+            tags = MODELS,
+            value = "Get the content of a model version",
+            notes = "Retrieve the content of the version <b>version</b> of the model for the identifier <b>modelId</b>.")
+    @GetMapping(path = "/models/{modelId}/versions/{version}/content")
+    void getModelVersionContent(
+            HttpServletResponse response,
+            @ApiParam(value = GET_MODEL_CONTENT_ID_PARAM_DESCR, required = true)
+            @PathVariable String modelId,
+            @ApiParam(value = GET_MODEL_VERSION_PARAM_DESCR, required = true)
+            @PathVariable String version) throws IOException;
+
     @ApiOperation(
             tags = MODELS,
             value = "Import a model from file",
@@ -77,7 +77,12 @@ public interface ProjectRestApi {
                     "<b>false</b> means that a web browser may preview the file in a new tab or window, " +
                     "but not download the file.";
 
-    String PROJECT_NAME_PARAM_DESCR = "The name or part of the name to filter projects";
+    String PROJECT_NAME_PARAM_DESCR = "The name or part of the name to filter projects, matched as a prefix when shorter than 3 characters. " +
+            "Without a cursor, the projects are ordered by relevance";
+
+    String CURSOR_AFTER_PARAM_DESCR = "The cursor to get the elements after, as given by the next-cursor link. Empty to get the first elements";
+
+    String CURSOR_BEFORE_PARAM_DESCR = "The cursor to get the elements before, as given by the prev-cursor link";
 
     String PROJECT_NAME_OVERRIDE_DESCR = "The name of the project that will override the current name of the project in the zip file";
 
@@ -87,18 +92,31 @@ public interface ProjectRestApi {
 
     String PROJECT_NAME_PARAM_NAME = "name";
 
+    String CURSOR_AFTER_PARAM_NAME = "after";
+
+    String CURSOR_BEFORE_PARAM_NAME = "before";
+
     @ApiOperation(
             tags = PROJECTS,
             value = "List projects",
             notes = "Get the list of available projects. " +
-                    "Minimal information for each project is returned.",
+                    "Minimal information for each project is returned. " +
+                    "Given a cursor, the projects are sorted by name and paginated from the cursor.",
             produces = APPLICATION_JSON_VALUE)
     @GetMapping(path = "/projects")
     PagedResources<Resource<Project>> getProjects(Pageable pageable,
                                                   @ApiParam(PROJECT_NAME_PARAM_DESCR)
                                                   @RequestParam(
                                                           name = PROJECT_NAME_PARAM_NAME,
-                                                          required = false) String name);
+                                                          required = false) String name,
+                                                  @ApiParam(CURSOR_AFTER_PARAM_DESCR)
+                                                  @RequestParam(
+                                                          name = CURSOR_AFTER_PARAM_NAME,
+                                                          required = false) String after,
+                                                  @ApiParam(CURSOR_BEFORE_PARAM_DESCR)
+                                                  @RequestParam(
+                                                          name = CURSOR_BEFORE_PARAM_NAME,
+                                                          required = false) String before);
 
     @ApiOperation(
             tags = PROJECTS,
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.rest.assembler;
+
+import static org.activiti.cloud.services.modeling.rest.api.ProjectRestApi.CURSOR_AFTER_PARAM_NAME;
+import static org.activiti.cloud.services.modeling.rest.api.ProjectRestApi.CURSOR_BEFORE_PARAM_NAME;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.activiti.cloud.alfresco.data.domain.AlfrescoPagedResourcesAssembler;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Assembler for pages of resources fetched by keyset cursor, linking to the previous and next pages by cursor
+ */
+public class KeysetPagedResourcesAssembler {
+
+    public static final String NEXT_CURSOR_REL = "next-cursor";
+
+    public static final String PREV_CURSOR_REL = "prev-cursor";
+
+    private static final String PAGE_PARAM_NAME = "page";
+
+    /**
+     * Decode a cursor given as request parameter.
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws ServerWebInputException if the cursor is not valid
+     */
+    public KeysetCursor toCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Build the page of resources from the elements fetched next to the cursor.
+     * @param pagedResourcesAssembler the paged resources assembler
+     * @param resourceAssembler the resource assembler
+     * @param elements the elements fetched, one more than the page size to detect further elements
+     * @param size the page size
+     * @param cursor the cursor the elements were fetched from
+     * @param backward true if the elements were fetched before the cursor
+     * @param cursorMapper the function giving the cursor of an element
+     * @param <T> the type of the elements
+     * @return the page of resources with the cursor links
+     */
+    public <T> PagedResources<Resource<T>> toResource(AlfrescoPagedResourcesAssembler<T> pagedResourcesAssembler,
+                                                     ResourceAssembler<T, Resource<T>> resourceAssembler,
+                                                     List<T> elements,
+                                                     int size,
+                                                     KeysetCursor cursor,
+                                                     boolean backward,
+                                                     Function<T, KeysetCursor> cursorMapper) {
+        boolean hasMore = elements.size() > size;
+        List<T> content = !hasMore ? elements : backward ?
+                elements.subList(elements.size() - size,
+                                 elements.size()) :
+                elements.subList(0,
+                                 size);
+        Pageable pageable = PageRequest.of(0,
+                                           size);
+        PagedResources<Resource<T>> resources = pagedResourcesAssembler.toResource(pageable,
+                                                                                   new PageImpl<>(content,
+                                                                                                  pageable,
+                                                                                                  content.size()),
+                                                                                   resourceAssembler);
+        if (!content.isEmpty()) {
+            if (backward || hasMore) {
+                resources.add(cursorLink(CURSOR_AFTER_PARAM_NAME,
+                                         CURSOR_BEFORE_PARAM_NAME,
+                                         cursorMapper.apply(content.get(content.size() - 1)),
+                                         NEXT_CURSOR_REL));
+            }
+            if (backward ? hasMore : !cursor.isFirst()) {
+                resources.add(cursorLink(CURSOR_BEFORE_PARAM_NAME,
+                                         CURSOR_AFTER_PARAM_NAME,
+                                         cursorMapper.apply(content.get(0)),
+                                         PREV_CURSOR_REL));
+            }
+        }
+        return resources;
+    }
+
+    private Link cursorLink(String paramName,
+                            String otherParamName,
+                            KeysetCursor cursor,
+                            String rel) {
+        return new Link(ServletUriComponentsBuilder.fromCurrentRequest()
+                                .replaceQueryParam(otherParamName)
+                                .replaceQueryParam(PAGE_PARAM_NAME)
+                                .replaceQueryParam(paramName,
+                                                   cursor.encode())
+                                .toUriString(),
+                        rel);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.rest.assembler;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.activiti.cloud.modeling.api.ModelVersion;
+import org.activiti.cloud.services.modeling.rest.controller.ModelController;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+
+/**
+ * Assembler for {@link ModelVersion} resources, linking to the next versions page by version sequence
+ */
+public class ModelVersionResourceAssembler {
+
+    public static final String CONTENT_REL = "content";
+
+    public Resource<ModelVersion> toResource(String modelId,
+                                             ModelVersion modelVersion) {
+        return new Resource<>(modelVersion,
+                              linkTo(methodOn(ModelController.class).getModelVersions(modelId,
+                                                                                      null,
+                                                                                      null))
+                                      .slash(modelVersion.getVersion())
+                                      .slash(CONTENT_REL)
+                                      .withRel(CONTENT_REL));
+    }
+
+    public Resources<Resource<ModelVersion>> toResources(String modelId,
+                                                         List<ModelVersion> modelVersions,
+                                                         Long beforeVersionSequence,
+                                                         int size) {
+        Resources<Resource<ModelVersion>> resources = new Resources<>(
+                modelVersions.stream()
+                        .map(modelVersion -> toResource(modelId,
+                                                        modelVersion))
+                        .collect(Collectors.toList()),
+                linkTo(methodOn(ModelController.class).getModelVersions(modelId,
+                                                                        beforeVersionSequence,
+                                                                        size)).withSelfRel());
+        if (!modelVersions.isEmpty() && modelVersions.size() == size) {
+            long nextVersionSequence = modelVersions.get(modelVersions.size() - 1).getVersionSequence();
+            resources.add(linkTo(methodOn(ModelController.class).getModelVersions(modelId,
+                                                                                  nextVersionSequence,
+                                                                                  size)).withRel(Link.REL_NEXT));
+        }
+        return resources;
+    }
+}
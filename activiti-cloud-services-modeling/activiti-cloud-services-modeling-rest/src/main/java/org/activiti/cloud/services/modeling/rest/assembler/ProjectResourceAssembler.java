@@ -47,7 +47,9 @@ public class ProjectResourceAssembler implements ResourceAssembler<Project, Reso
                 getImportProjectModelLink(project.getId()),
                 linkTo(methodOn(ModelController.class).getModels(project.getId(),
                                                                  PROCESS,
-                                                                 Pageable.unpaged())).withRel("models"));
+                                                                 Pageable.unpaged(),
+                                                                 null,
+                                                                 null)).withRel("models"));
     }
 
     private Link getImportProjectModelLink(String projectId) {
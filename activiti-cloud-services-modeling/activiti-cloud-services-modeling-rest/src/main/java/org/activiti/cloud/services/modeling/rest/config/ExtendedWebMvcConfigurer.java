@@ -17,9 +17,14 @@
 package org.activiti.cloud.services.modeling.rest.config;
 
 import org.activiti.cloud.alfresco.data.domain.ExtendedPageMetadataConverter;
+import org.activiti.cloud.services.modeling.rest.assembler.KeysetPagedResourcesAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ModelResourceAssembler;
+import org.activiti.cloud.services.modeling.rest.assembler.ModelSummaryRelProvider;
+import org.activiti.cloud.services.modeling.rest.assembler.ModelSummaryResourceAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ModelTypeRelProvider;
 import org.activiti.cloud.services.modeling.rest.assembler.ModelTypeResourceAssembler;
+import org.activiti.cloud.services.modeling.rest.assembler.ModelVersionRelProvider;
+import org.activiti.cloud.services.modeling.rest.assembler.ModelVersionResourceAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.PagedModelTypeAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ProjectResourceAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ValidationErrorResourceAssembler;
@@ -60,11 +65,26 @@ public class ExtendedWebMvcConfigurer implements WebMvcConfigurer {
                 .forEach(objectMapperBuilder::configure);
     }
 
+    @Bean
+    public KeysetPagedResourcesAssembler keysetPagedResourcesAssembler() {
+        return new KeysetPagedResourcesAssembler();
+    }
+
     @Bean
     public ModelResourceAssembler ModelResourceAssembler() {
         return new ModelResourceAssembler();
     }
 
+    @Bean
+    public ModelSummaryRelProvider modelSummaryRelProvider() {
+        return new ModelSummaryRelProvider();
+    }
+
+    @Bean
+    public ModelSummaryResourceAssembler modelSummaryResourceAssembler() {
+        return new ModelSummaryResourceAssembler();
+    }
+
     @Bean
     public ModelTypeRelProvider modelTypeRelProvider() {
         return new ModelTypeRelProvider();
@@ -75,6 +95,16 @@ public class ExtendedWebMvcConfigurer implements WebMvcConfigurer {
         return new ModelTypeResourceAssembler();
     }
 
+    @Bean
+    public ModelVersionRelProvider modelVersionRelProvider() {
+        return new ModelVersionRelProvider();
+    }
+
+    @Bean
+    public ModelVersionResourceAssembler modelVersionResourceAssembler() {
+        return new ModelVersionResourceAssembler();
+    }
+
     @Bean
     public PagedModelTypeAssembler pagedModelTypeAssembler(@Nullable HateoasPageableHandlerMethodArgumentResolver resolver,
                                                            @Nullable UriComponents baseUri,
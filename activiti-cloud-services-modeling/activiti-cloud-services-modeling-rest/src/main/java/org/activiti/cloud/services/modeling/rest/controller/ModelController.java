@@ -16,12 +16,18 @@
 
 package org.activiti.cloud.services.modeling.rest.controller;
 
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.getContentTypeByPath;
+import static org.activiti.cloud.services.common.util.HttpUtils.HEADER_ATTACHEMNT_FILENAME;
 import static org.activiti.cloud.services.common.util.HttpUtils.multipartToFileContent;
 import static org.activiti.cloud.services.common.util.HttpUtils.writeFileToResponse;
+import static org.activiti.cloud.services.modeling.rest.api.ProjectRestApi.CURSOR_AFTER_PARAM_NAME;
+import static org.activiti.cloud.services.modeling.rest.api.ProjectRestApi.CURSOR_BEFORE_PARAM_NAME;
 import static org.activiti.cloud.services.modeling.rest.api.ProjectRestApi.EXPORT_AS_ATTACHMENT_PARAM_NAME;
 import static org.activiti.cloud.services.modeling.rest.api.ProjectRestApi.UPLOAD_FILE_PARAM_NAME;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletResponse;
@@ -30,12 +36,18 @@ import javax.validation.Valid;
 import io.swagger.annotations.ApiParam;
 import org.activiti.cloud.alfresco.data.domain.AlfrescoPagedResourcesAssembler;
 import org.activiti.cloud.modeling.api.Model;
+import org.activiti.cloud.modeling.api.ModelSummary;
 import org.activiti.cloud.modeling.api.ModelType;
+import org.activiti.cloud.modeling.api.ModelVersion;
 import org.activiti.cloud.modeling.api.Project;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.services.common.file.FileContent;
 import org.activiti.cloud.services.modeling.rest.api.ModelRestApi;
+import org.activiti.cloud.services.modeling.rest.assembler.KeysetPagedResourcesAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ModelResourceAssembler;
+import org.activiti.cloud.services.modeling.rest.assembler.ModelSummaryResourceAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ModelTypeResourceAssembler;
+import org.activiti.cloud.services.modeling.rest.assembler.ModelVersionResourceAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.PagedModelTypeAssembler;
 import org.activiti.cloud.services.modeling.service.ModelTypeService;
 import org.activiti.cloud.services.modeling.service.api.ModelService;
@@ -43,6 +55,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -60,48 +74,99 @@ import org.springframework.web.server.ServerWebInputException;
 @ControllerAdvice
 public class ModelController implements ModelRestApi {
 
+    private static final int DEFAULT_VERSIONS_SIZE = 20;
+
+    private static final int MAX_VERSIONS_SIZE = 500;
+
     private final ModelService modelService;
 
     private final ModelTypeService modelTypeService;
 
     private final ModelResourceAssembler resourceAssembler;
 
-    private final AlfrescoPagedResourcesAssembler<Model> pagedResourcesAssembler;
+    private final ModelSummaryResourceAssembler summaryResourceAssembler;
+
+    private final AlfrescoPagedResourcesAssembler<ModelSummary> pagedResourcesAssembler;
 
     private final ModelTypeResourceAssembler modelTypeAssembler;
 
     private final PagedModelTypeAssembler pagedModelTypeAssembler;
 
+    private final ModelVersionResourceAssembler modelVersionResourceAssembler;
+
+    private final KeysetPagedResourcesAssembler keysetPagedResourcesAssembler;
+
     private final ProjectController projectController;
 
     public ModelController(ModelService modelService,
                            ModelTypeService modelTypeService,
                            ModelResourceAssembler resourceAssembler,
-                           AlfrescoPagedResourcesAssembler<Model> pagedResourcesAssembler,
+                           ModelSummaryResourceAssembler summaryResourceAssembler,
+                           AlfrescoPagedResourcesAssembler<ModelSummary> pagedResourcesAssembler,
                            ModelTypeResourceAssembler modelTypeAssembler,
                            PagedModelTypeAssembler pagedModelTypeAssembler,
+                           ModelVersionResourceAssembler modelVersionResourceAssembler,
+                           KeysetPagedResourcesAssembler keysetPagedResourcesAssembler,
                            ProjectController projectController) {
         this.modelService = modelService;
         this.modelTypeService = modelTypeService;
         this.resourceAssembler = resourceAssembler;
+        this.summaryResourceAssembler = summaryResourceAssembler;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
         this.modelTypeAssembler = modelTypeAssembler;
         this.pagedModelTypeAssembler = pagedModelTypeAssembler;
+        this.modelVersionResourceAssembler = modelVersionResourceAssembler;
+        this.keysetPagedResourcesAssembler = keysetPagedResourcesAssembler;
         this.projectController = projectController;
     }
 
     @Override
-    public PagedResources<Resource<Model>> getModels(
+    public PagedResources<Resource<ModelSummary>> getModels(
             @PathVariable String projectId,
             @RequestParam(MODEL_TYPE_PARAM_NAME) String type,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(name = CURSOR_AFTER_PARAM_NAME,
+                    required = false) String after,
+            @RequestParam(name = CURSOR_BEFORE_PARAM_NAME,
+                    required = false) String before) {
         Project project = projectController.findProjectById(projectId);
+        if (after != null || before != null) {
+            return getModels(project,
+                             findModelType(type),
+                             pageable.getPageSize(),
+                             keysetPagedResourcesAssembler.toCursor(after != null ? after : before),
+                             after == null);
+        }
         return pagedResourcesAssembler.toResource(
                 pageable,
-                modelService.getModels(project,
-                                       findModelType(type),
-                                       pageable),
-                resourceAssembler);
+                modelService.getModelSummaries(project,
+                                               findModelType(type),
+                                               pageable),
+                summaryResourceAssembler);
+    }
+
+    private PagedResources<Resource<ModelSummary>> getModels(Project project,
+                                                             ModelType modelType,
+                                                             int size,
+                                                             KeysetCursor cursor,
+                                                             boolean backward) {
+        List<ModelSummary> models = backward ?
+                modelService.getModelSummariesBefore(project,
+                                                     modelType,
+                                                     cursor,
+                                                     size + 1) :
+                modelService.getModelSummariesAfter(project,
+                                                    modelType,
+                                                    cursor,
+                                                    size + 1);
+        return keysetPagedResourcesAssembler.toResource(pagedResourcesAssembler,
+                                                        summaryResourceAssembler,
+                                                        models,
+                                                        size,
+                                                        cursor,
+                                                        backward,
+                                                        model -> new KeysetCursor(model.getName(),
+                                                                                  model.getId()));
     }
 
     @Override
@@ -135,8 +200,13 @@ public class ModelController implements ModelRestApi {
     public void updateModelContent(
             @PathVariable String modelId,
             @RequestPart(UPLOAD_FILE_PARAM_NAME) MultipartFile file) throws IOException {
-        modelService.updateModelContent(findModelById(modelId),
-                                        multipartToFileContent(file));
+        try (InputStream content = file.getInputStream()) {
+            modelService.updateModelContent(findModelById(modelId),
+                                            file.getOriginalFilename(),
+                                            getContentTypeByPath(file.getOriginalFilename()).orElse(file.getContentType()),
+                                            content,
+                                            file.getSize());
+        }
     }
 
     @Override
@@ -150,9 +220,13 @@ public class ModelController implements ModelRestApi {
             HttpServletResponse response,
             @PathVariable String modelId) throws IOException {
         Model model = findModelById(modelId);
-        writeFileToResponse(response,
-                            modelService.getModelContentFile(model),
-                            false);
+        setContentHeaders(response,
+                          model.getContentType(),
+                          modelService.getModelContentFilename(model),
+                          false);
+        modelService.writeModelContent(model,
+                                       response.getOutputStream());
+        response.flushBuffer();
     }
 
     @Override
@@ -167,6 +241,44 @@ public class ModelController implements ModelRestApi {
                             false);
     }
 
+    @Override
+    public Resources<Resource<ModelVersion>> getModelVersions(
+            @PathVariable String modelId,
+            @RequestParam(name = VERSIONS_BEFORE_PARAM_NAME,
+                    required = false) Long beforeVersionSequence,
+            @RequestParam(name = VERSIONS_SIZE_PARAM_NAME,
+                    required = false) Integer size) {
+        Model model = findModelById(modelId);
+        int versionsSize = Math.min(Math.max(Optional.ofNullable(size).orElse(DEFAULT_VERSIONS_SIZE),
+                                             1),
+                                    MAX_VERSIONS_SIZE);
+        List<ModelVersion> modelVersions = modelService.getModelVersions(model,
+                                                                         beforeVersionSequence,
+                                                                         versionsSize);
+        return modelVersionResourceAssembler.toResources(modelId,
+                                                         modelVersions,
+                                                         beforeVersionSequence,
+                                                         versionsSize);
+    }
+
+    @Override
+    public void getModelVersionContent(
+            HttpServletResponse response,
+            @PathVariable String modelId,
+            @PathVariable String version) throws IOException {
+        Model model = findModelById(modelId);
+        ModelVersion modelVersion = modelService.findModelVersion(model,
+                                                                  version)
+                .orElseThrow(() -> new ResourceNotFoundException("Model version not found: " + modelId + " " + version));
+        setContentHeaders(response,
+                          modelVersion.getContentType(),
+                          modelService.getModelContentFilename(model),
+                          false);
+        modelService.writeModelVersionContent(modelVersion,
+                                              response.getOutputStream());
+        response.flushBuffer();
+    }
+
     @Override
     public Resource<Model> importModel(
             @PathVariable String projectId,
@@ -187,9 +299,24 @@ public class ModelController implements ModelRestApi {
                     required = false,
                     defaultValue = "true") boolean attachment) throws IOException {
         Model model = findModelById(modelId);
-        writeFileToResponse(response,
-                            modelService.exportModel(model),
-                            attachment);
+        setContentHeaders(response,
+                          model.getContentType(),
+                          modelService.getModelContentFilename(model),
+                          attachment);
+        modelService.exportModel(model,
+                                 response.getOutputStream());
+        response.flushBuffer();
+    }
+
+    private void setContentHeaders(HttpServletResponse response,
+                                   String contentType,
+                                   String filename,
+                                   boolean attachment) {
+        response.setContentType(contentType);
+        if (attachment) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                               HEADER_ATTACHEMNT_FILENAME + filename);
+        }
     }
 
     @Override
@@ -17,20 +17,23 @@
 package org.activiti.cloud.services.modeling.rest.controller;
 
 import java.io.IOException;
+import java.util.List;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import io.swagger.annotations.ApiParam;
 import org.activiti.cloud.alfresco.data.domain.AlfrescoPagedResourcesAssembler;
 import org.activiti.cloud.modeling.api.Project;
-import org.activiti.cloud.services.common.file.FileContent;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.services.modeling.rest.api.ProjectRestApi;
+import org.activiti.cloud.services.modeling.rest.assembler.KeysetPagedResourcesAssembler;
 import org.activiti.cloud.services.modeling.rest.assembler.ProjectResourceAssembler;
 import org.activiti.cloud.services.modeling.service.api.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.hateoas.PagedResources;
+import org.springframework.http.HttpHeaders;
 import org.springframework.hateoas.Resource;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -38,7 +41,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import static org.activiti.cloud.services.common.util.HttpUtils.writeFileToResponse;
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.CONTENT_TYPE_ZIP;
+import static org.activiti.cloud.services.common.util.HttpUtils.HEADER_ATTACHEMNT_FILENAME;
 
 /**
  * Controller for {@link Project} resources
@@ -52,13 +56,17 @@ public class ProjectController implements ProjectRestApi {
 
     private final AlfrescoPagedResourcesAssembler<Project> pagedResourcesAssembler;
 
+    private final KeysetPagedResourcesAssembler keysetPagedResourcesAssembler;
+
     @Autowired
     public ProjectController(ProjectService projectService,
                              ProjectResourceAssembler resourceAssembler,
-                             AlfrescoPagedResourcesAssembler<Project> pagedResourcesAssembler) {
+                             AlfrescoPagedResourcesAssembler<Project> pagedResourcesAssembler,
+                             KeysetPagedResourcesAssembler keysetPagedResourcesAssembler) {
         this.projectService = projectService;
         this.resourceAssembler = resourceAssembler;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.keysetPagedResourcesAssembler = keysetPagedResourcesAssembler;
     }
 
     @Override
@@ -66,7 +74,19 @@ public class ProjectController implements ProjectRestApi {
             Pageable pageable,
             @RequestParam(
                     name = PROJECT_NAME_PARAM_NAME,
-                    required = false) String name) {
+                    required = false) String name,
+            @RequestParam(
+                    name = CURSOR_AFTER_PARAM_NAME,
+                    required = false) String after,
+            @RequestParam(
+                    name = CURSOR_BEFORE_PARAM_NAME,
+                    required = false) String before) {
+        if (after != null || before != null) {
+            return getProjects(pageable.getPageSize(),
+                               name,
+                               keysetPagedResourcesAssembler.toCursor(after != null ? after : before),
+                               after == null);
+        }
         return pagedResourcesAssembler.toResource(
                 pageable,
                 projectService.getProjects(pageable,
@@ -74,6 +94,27 @@ public class ProjectController implements ProjectRestApi {
                 resourceAssembler);
     }
 
+    private PagedResources<Resource<Project>> getProjects(int size,
+                                                          String name,
+                                                          KeysetCursor cursor,
+                                                          boolean backward) {
+        List<Project> projects = backward ?
+                projectService.getProjectsBefore(name,
+                                                 cursor,
+                                                 size + 1) :
+                projectService.getProjectsAfter(name,
+                                                cursor,
+                                                size + 1);
+        return keysetPagedResourcesAssembler.toResource(pagedResourcesAssembler,
+                                                        resourceAssembler,
+                                                        projects,
+                                                        size,
+                                                        cursor,
+                                                        backward,
+                                                        project -> new KeysetCursor(project.getName(),
+                                                                                    project.getId()));
+    }
+
     @Override
     public Resource<Project> getProject(
             @PathVariable String projectId) {
@@ -117,10 +158,14 @@ public class ProjectController implements ProjectRestApi {
                     required = false,
                     defaultValue = "true") boolean attachment) throws IOException {
         Project project = findProjectById(projectId);
-        FileContent fileContent = projectService.exportProject(project);
-        writeFileToResponse(response,
-                            fileContent,
-                            attachment);
+        response.setContentType(CONTENT_TYPE_ZIP);
+        if (attachment) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                               HEADER_ATTACHEMNT_FILENAME + projectService.getExportFilename(project));
+        }
+        projectService.exportProject(project,
+                                     response.getOutputStream());
+        response.flushBuffer();
     }
 
     @Override
@@ -32,6 +32,7 @@ import static org.activiti.cloud.services.modeling.rest.config.RepositoryRestCon
 import static org.activiti.cloud.services.test.asserts.AssertResponseContent.assertThatResponseContent;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
@@ -132,6 +133,34 @@ public class ModelControllerIT {
                                     is("Process Model 2")));
     }
 
+    @Test
+    public void should_returnModelSummariesWithoutExtensions_when_gettingProjectModels() throws Exception {
+        ProjectEntity project = (ProjectEntity) projectRepository.createProject(project("parent-project"));
+        Map<String, Extensions> extensions = new HashMap<String, Extensions>();
+        extensions.put("process-model-extensions", extensions("ServiceTask", "variable1"));
+        ModelEntity processModel = processModelWithExtensions("process-model-extensions", extensions);
+        processModel.setProject(project);
+        modelRepository.createModel(processModel);
+
+        mockMvc.perform(get("{version}/projects/{projectId}/models?type=PROCESS",
+                            API_VERSION,
+                            project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.models",
+                                    hasSize(1)))
+                .andExpect(jsonPath("$._embedded.models[0].id",
+                                    is(processModel.getId())))
+                .andExpect(jsonPath("$._embedded.models[0].name",
+                                    is("process-model-extensions")))
+                .andExpect(jsonPath("$._embedded.models[0].type",
+                                    is(PROCESS)))
+                .andExpect(jsonPath("$._embedded.models[0].version",
+                                    is("0.0.1")))
+                .andExpect(jsonPath("$._embedded.models[0].projectId",
+                                    is(project.getId())))
+                .andExpect(jsonPath("$._embedded.models[0].extensions").doesNotExist());
+    }
+
     @Test
     public void should_returnStatusCreatedAndProcessModelDetails_when_creatingProcessModel() throws Exception {
         Project project = projectRepository.createProject(project("parent-project"));
@@ -425,6 +454,42 @@ public class ModelControllerIT {
         );
     }
 
+    @Test
+    public void should_keepModelVersion_when_updatingModelWithUnchangedContentAndExtensions() throws Exception {
+        Model processModel = modelRepository.createModel(processModel("process-model"));
+
+        mockMvc.perform(put("{version}/models/{modelId}",
+                            API_VERSION,
+                            processModel.getId())
+                                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                                .content(mapper.writeValueAsString(processModel("process-model"))))
+                .andExpect(status().isOk());
+
+        assertThat(modelRepository.findModelById(processModel.getId())).hasValueSatisfying(
+                model -> assertThat(model.getVersion()).isEqualTo("0.0.1")
+        );
+    }
+
+    @Test
+    public void should_addModelVersion_when_updatingModelWithChangedExtensions() throws Exception {
+        Map<String, Extensions> extensions = new HashMap<String, Extensions>();
+        extensions.put("process-model-extensions", extensions("ServiceTask", "variable1"));
+        ModelEntity processModel = processModelWithExtensions("process-model-extensions", extensions);
+        modelRepository.createModel(processModel);
+
+        extensions.put("process-model-extensions", extensions("variable2", "variable3"));
+        mockMvc.perform(put("{version}/models/{modelId}",
+                            API_VERSION,
+                            processModel.getId())
+                                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                                .content(mapper.writeValueAsString(processModelWithExtensions("process-model-extensions", extensions))))
+                .andExpect(status().isOk());
+
+        assertThat(modelRepository.findModelById(processModel.getId())).hasValueSatisfying(
+                model -> assertThat(model.getVersion()).isEqualTo("0.0.2")
+        );
+    }
+
     @Test
     public void should_returnStatusOk_when_updatingModelWithExtensions() throws Exception {
         Map<String, Extensions> extensions = new HashMap<String, Extensions>();
@@ -875,6 +940,73 @@ public class ModelControllerIT {
                 .hasContent("Process Model Content");
     }
 
+    @Test
+    public void should_returnModelVersionsLatestFirst_when_gettingModelVersions() throws Exception {
+        Model processModel = modelRepository.createModel(processModelWithContent("process_model_id",
+                                                                                 "Process Model Content 1"));
+        updateModelContent(processModel.getId(),
+                           "Process Model Content 2");
+        updateModelContent(processModel.getId(),
+                           "Process Model Content 3");
+
+        mockMvc.perform(get("{version}/models/{modelId}/versions?size=2",
+                            API_VERSION,
+                            processModel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.model-versions",
+                                    hasSize(2)))
+                .andExpect(jsonPath("$._embedded.model-versions[0].version",
+                                    is("0.0.3")))
+                .andExpect(jsonPath("$._embedded.model-versions[0].versionSequence",
+                                    is(3)))
+                .andExpect(jsonPath("$._embedded.model-versions[0].content").doesNotExist())
+                .andExpect(jsonPath("$._embedded.model-versions[1].version",
+                                    is("0.0.2")))
+                .andExpect(jsonPath("$._links.next.href",
+                                    containsString("before=2")));
+
+        mockMvc.perform(get("{version}/models/{modelId}/versions?size=2&before=2",
+                            API_VERSION,
+                            processModel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.model-versions",
+                                    hasSize(1)))
+                .andExpect(jsonPath("$._embedded.model-versions[0].version",
+                                    is("0.0.1")))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+    }
+
+    @Test
+    public void should_returnVersionContent_when_gettingModelVersionContent() throws Exception {
+        Model processModel = modelRepository.createModel(processModelWithContent("process_model_id",
+                                                                                 "Process Model Content 1"));
+        updateModelContent(processModel.getId(),
+                           "Process Model Content 2");
+
+        MvcResult response = mockMvc.perform(get("{version}/models/{modelId}/versions/{modelVersion}/content",
+                                                 API_VERSION,
+                                                 processModel.getId(),
+                                                 "0.0.1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(response.getResponse().getContentAsString()).isEqualTo("Process Model Content 1");
+
+        mockMvc.perform(get("{version}/models/{modelId}/versions/{modelVersion}/content",
+                            API_VERSION,
+                            processModel.getId(),
+                            "0.0.3"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void updateModelContent(String modelId,
+                                    String content) {
+        Model model = (Model) modelRepository.findModelById(modelId).get();
+        model.setContent(content.getBytes());
+        modelRepository.updateModelContent(model,
+                                           null);
+    }
+
     @Test
     public void should_throwNotFoundException_when_exportingNotExistingModel() throws Exception {
         mockMvc.perform(
@@ -38,6 +38,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -53,8 +54,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.ModelValidationError;
 import org.activiti.cloud.modeling.api.ProcessModelType;
@@ -73,8 +80,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
@@ -186,6 +196,65 @@ public class ProjectControllerIT {
                         is("project-main-2")));
     }
 
+    @Test
+    public void should_returnProjectsByCursor_when_gettingProjectsAfterCursor() throws Exception {
+
+        projectRepository.createProject(project("project3"));
+        projectRepository.createProject(project("project1"));
+        projectRepository.createProject(project("project2"));
+
+        MvcResult firstPage = mockMvc.perform(get("{version}/projects?after=&size=2",
+                                                  RepositoryRestConfig.API_VERSION))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.projects",
+                                    hasSize(2)))
+                .andExpect(jsonPath("$._embedded.projects[0].name",
+                                    is("project1")))
+                .andExpect(jsonPath("$._embedded.projects[1].name",
+                                    is("project2")))
+                .andExpect(jsonPath("$._links",
+                                    hasKey("next-cursor")))
+                .andExpect(jsonPath("$._links",
+                                    not(hasKey("prev-cursor"))))
+                .andReturn();
+
+        String nextCursorLink = JsonPath.read(firstPage.getResponse().getContentAsString(),
+                                              "$._links['next-cursor'].href");
+        MvcResult secondPage = mockMvc.perform(get(nextCursorLink))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.projects",
+                                    hasSize(1)))
+                .andExpect(jsonPath("$._embedded.projects[0].name",
+                                    is("project3")))
+                .andExpect(jsonPath("$._links",
+                                    not(hasKey("next-cursor"))))
+                .andExpect(jsonPath("$._links",
+                                    hasKey("prev-cursor")))
+                .andReturn();
+
+        String prevCursorLink = JsonPath.read(secondPage.getResponse().getContentAsString(),
+                                              "$._links['prev-cursor'].href");
+        mockMvc.perform(get(prevCursorLink))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.projects",
+                                    hasSize(2)))
+                .andExpect(jsonPath("$._embedded.projects[0].name",
+                                    is("project1")))
+                .andExpect(jsonPath("$._embedded.projects[1].name",
+                                    is("project2")));
+    }
+
+    @Test
+    public void should_throwBadRequestException_when_gettingProjectsAfterInvalidCursor() throws Exception {
+        mockMvc.perform(get("{version}/projects?after=invalid",
+                            RepositoryRestConfig.API_VERSION))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void should_returnProject_when_gettingExistingProject() throws Exception {
         Project project = projectRepository.createProject(project("existing-project"));
@@ -316,6 +385,28 @@ public class ProjectControllerIT {
         assertThat(projectRepository.findProjectById(project.getId())).isEmpty();
     }
 
+    @Test
+    public void should_deleteProjectModels_when_deletingProjectWithModels() throws Exception {
+        ProjectEntity project = (ProjectEntity) projectRepository.createProject(project("project-with-models-to-delete"));
+        Model connectorModel = modelRepository.createModel(connectorModel(project,
+                                                                          "movies",
+                                                                          resourceAsByteArray("connector/movies.json")));
+        connectorModel.setContent(resourceAsByteArray("connector/movies-without-inputs-outputs.json"));
+        modelRepository.updateModelContent(connectorModel,
+                                           null);
+        Model otherConnectorModel = modelRepository.createModel(connectorModel(project,
+                                                                               "books"));
+
+        mockMvc.perform(delete("{version}/projects/{projectId}",
+                               API_VERSION,
+                               project.getId()))
+                .andExpect(status().isNoContent());
+
+        assertThat(projectRepository.findProjectById(project.getId())).isEmpty();
+        assertThat(modelRepository.findModelById(connectorModel.getId())).isEmpty();
+        assertThat(modelRepository.findModelById(otherConnectorModel.getId())).isEmpty();
+    }
+
     @Test
     public void should_returnZipFileWithProjectModels_when_exportingProject() throws Exception {
         ProjectEntity project = (ProjectEntity) projectRepository.createProject(project("project-with-models"));
@@ -836,6 +927,52 @@ public class ProjectControllerIT {
                                                                                    is("application-xy")));
     }
 
+    @Test
+    public void should_importAllProjects_when_importingProjectsConcurrently() throws Exception {
+        int importsCount = 8;
+        byte[] zipContent = resourceAsByteArray("project/project-xy.zip");
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executorService = new DelegatingSecurityContextExecutorService(Executors.newFixedThreadPool(importsCount));
+
+        try {
+            List<Future<MvcResult>> imports = new ArrayList<>();
+            for (int i = 0; i < importsCount; i++) {
+                String projectName = "concurrent-project-" + i;
+                imports.add(executorService.submit(() -> {
+                    startSignal.await();
+                    return mockMvc.perform(multipart("{version}/projects/import?name=" + projectName,
+                                                     API_VERSION)
+                                                   .file(new MockMultipartFile("file",
+                                                                               "project-xy.zip",
+                                                                               "project/zip",
+                                                                               zipContent))
+                                                   .accept(APPLICATION_JSON_VALUE))
+                            .andExpect(status().isCreated())
+                            .andExpect(jsonPath("$.entry.name",
+                                                is(projectName)))
+                            .andReturn();
+                }));
+            }
+            startSignal.countDown();
+
+            for (Future<MvcResult> importResult : imports) {
+                importResult.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Page<Project> projects = projectRepository.getProjects(Pageable.unpaged(),
+                                                               "concurrent-project-");
+        assertThat(projects.getContent()).hasSize(importsCount);
+        projects.forEach(project -> assertThat(modelService.getModels(project,
+                                                                      processModelType,
+                                                                      Pageable.unpaged()).getContent())
+                .extracting(Model::getName)
+                .containsExactlyInAnyOrder("process-x",
+                                           "process-y"));
+    }
+
     @Test
     public void should_returnStatusOK_when_exportingProjectWithProcessExtensionsWithValueOutputProcessVariableMapping() throws Exception {
         ProjectEntity project = (ProjectEntity) projectRepository.createProject(project("invalid-project"));
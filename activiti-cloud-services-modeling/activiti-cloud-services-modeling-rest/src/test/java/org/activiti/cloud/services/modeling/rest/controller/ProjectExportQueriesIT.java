@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.rest.controller;
+
+import static org.activiti.cloud.services.common.util.FileUtils.resourceAsByteArray;
+import static org.activiti.cloud.services.modeling.mock.MockFactory.connectorModel;
+import static org.activiti.cloud.services.modeling.mock.MockFactory.processModelWithContent;
+import static org.activiti.cloud.services.modeling.mock.MockFactory.project;
+import static org.activiti.cloud.services.modeling.rest.config.RepositoryRestConfig.API_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import java.io.IOException;
+import javax.persistence.EntityManagerFactory;
+
+import org.activiti.cloud.modeling.repository.ModelRepository;
+import org.activiti.cloud.modeling.repository.ProjectRepository;
+import org.activiti.cloud.services.modeling.config.ModelingRestApplication;
+import org.activiti.cloud.services.modeling.entity.ProjectEntity;
+import org.activiti.cloud.services.modeling.security.WithMockModelerUser;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ModelingRestApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@WebAppConfiguration
+@DirtiesContext(classMode = AFTER_EACH_TEST_METHOD)
+@WithMockModelerUser
+public class ProjectExportQueriesIT {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ModelRepository modelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        this.mockMvc = webAppContextSetup(webApplicationContext).build();
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void should_executeSameNumberOfQueries_when_exportingProjectWithMoreModels() throws Exception {
+        ProjectEntity project = (ProjectEntity) projectRepository.createProject(project("project-with-models"));
+
+        createModels(project,
+                     "small",
+                     2);
+        long queriesForSmallProject = countQueriesForExport(project);
+
+        createModels(project,
+                     "large",
+                     20);
+        long queriesForLargeProject = countQueriesForExport(project);
+
+        assertThat(queriesForLargeProject).isEqualTo(queriesForSmallProject);
+    }
+
+    private void createModels(ProjectEntity project,
+                              String prefix,
+                              int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            modelRepository.createModel(processModelWithContent(project,
+                                                                prefix + "-process-" + i,
+                                                                resourceAsByteArray("process/RankMovie.bpmn20.xml")));
+            modelRepository.createModel(connectorModel(project,
+                                                       prefix + "-connector-" + i,
+                                                       resourceAsByteArray("connector/movies.json")));
+        }
+    }
+
+    private long countQueriesForExport(ProjectEntity project) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get("{version}/projects/{projectId}/export",
+                            API_VERSION,
+                            project.getId()))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.converter;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.activiti.bpmn.model.BpmnModel;
+
+/**
+ * Bounded cache of parsed {@link BpmnModel}, keyed by the SHA-256 hash of the xml content.
+ * The least recently used entries are evicted once the maximum size is reached.
+ * The cached models are shared, so they must not be modified.
+ */
+public class BpmnModelCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+
+    private final Map<ByteBuffer, BpmnModel> bpmnModels;
+
+    public BpmnModelCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.bpmnModels = new LinkedHashMap<ByteBuffer, BpmnModel>(16,
+                                                                   0.75f,
+                                                                   true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, BpmnModel> eldest) {
+                return size() > BpmnModelCache.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public ByteBuffer getKey(byte[] content) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance(HASH_ALGORITHM).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized Optional<BpmnModel> get(ByteBuffer key) {
+        return Optional.ofNullable(bpmnModels.get(key));
+    }
+
+    public synchronized void put(ByteBuffer key,
+                                 BpmnModel bpmnModel) {
+        if (isEnabled()) {
+            bpmnModels.put(key,
+                           bpmnModel);
+        }
+    }
+
+    public synchronized int size() {
+        return bpmnModels.size();
+    }
+
+    public synchronized void clear() {
+        bpmnModels.clear();
+    }
+}
@@ -19,6 +19,7 @@ package org.activiti.cloud.services.modeling.converter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.activiti.bpmn.model.BpmnModel;
@@ -28,15 +29,29 @@ import org.activiti.cloud.modeling.api.ModelContent;
 import org.activiti.cloud.modeling.core.error.ModelingException;
 
 /**
- * Implementation of {@link ModelContent} corresponding to process model type based on a {@link BpmnModel}
+ * Implementation of {@link ModelContent} corresponding to process model type based on a {@link BpmnModel}.
+ * When based on a shared {@link BpmnModel}, a private copy is taken before the first modification.
  */
 public class BpmnProcessModelContent implements ModelContent {
 
-    private final BpmnModel bpmnModel;
+    private BpmnModel bpmnModel;
 
-    private final Process process;
+    private Process process;
+
+    private Supplier<BpmnModel> bpmnModelCopier;
 
     public BpmnProcessModelContent(BpmnModel bpmnModel) {
+        this(bpmnModel,
+             null);
+    }
+
+    public BpmnProcessModelContent(BpmnModel sharedBpmnModel,
+                                   Supplier<BpmnModel> bpmnModelCopier) {
+        setBpmnModel(sharedBpmnModel);
+        this.bpmnModelCopier = bpmnModelCopier;
+    }
+
+    private void setBpmnModel(BpmnModel bpmnModel) {
         this.bpmnModel = bpmnModel;
         this.process = bpmnModel
                 .getProcesses()
@@ -49,12 +64,25 @@ public class BpmnProcessModelContent implements ModelContent {
         return bpmnModel;
     }
 
+    /**
+     * Get the bpmn model to modify, copying it first if it is shared.
+     * @return the bpmn model owned by this content
+     */
+    public BpmnModel getModifiableBpmnModel() {
+        if (bpmnModelCopier != null) {
+            setBpmnModel(bpmnModelCopier.get());
+            bpmnModelCopier = null;
+        }
+        return bpmnModel;
+    }
+
     @Override
     public String getId() {
         return process.getId();
     }
 
     public void setId(String id) {
+        getModifiableBpmnModel();
         process.setId(id);
     }
 
@@ -19,6 +19,7 @@ package org.activiti.cloud.services.modeling.converter;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Optional;
 import javax.xml.stream.XMLStreamException;
@@ -45,10 +46,21 @@ public class ProcessModelContentConverter implements ModelContentConverter<BpmnP
 
     private final BpmnXMLConverter bpmnConverter;
 
+    private final BpmnModelCache bpmnModelCache;
+
     public ProcessModelContentConverter(ProcessModelType processModelType,
                                         BpmnXMLConverter bpmnConverter) {
+        this(processModelType,
+             bpmnConverter,
+             new BpmnModelCache(0));
+    }
+
+    public ProcessModelContentConverter(ProcessModelType processModelType,
+                                        BpmnXMLConverter bpmnConverter,
+                                        BpmnModelCache bpmnModelCache) {
         this.bpmnConverter = bpmnConverter;
         this.processModelType = processModelType;
+        this.bpmnModelCache = bpmnModelCache;
     }
 
     @Override
@@ -62,9 +74,25 @@ public class ProcessModelContentConverter implements ModelContentConverter<BpmnP
             return Optional.empty();
         }
 
+        return Optional.ofNullable(parseBpmnModel(bytes))
+                .map(BpmnProcessModelContent::new);
+    }
+
+    /**
+     * Convert the given bytes to a process model content based on a cached {@link BpmnModel}.
+     * The content is copied before being modified, so the cached model is left untouched.
+     * @param bytes the xml content
+     * @return the process model content
+     */
+    public Optional<BpmnProcessModelContent> convertToSharedModelContent(byte[] bytes) {
+        if (ArrayUtils.isEmpty(bytes)) {
+            return Optional.empty();
+        }
+
         try {
-            return Optional.ofNullable(convertToBpmnModel(bytes))
-                    .map(BpmnProcessModelContent::new);
+            return Optional.ofNullable(getReadOnlyBpmnModel(bytes))
+                    .map(bpmnModel -> new BpmnProcessModelContent(bpmnModel,
+                                                                  () -> parseBpmnModel(bytes)));
         } catch (IOException | XMLStreamException ex) {
             throw new ModelingException("Invalid bpmn model",
                                         ex);
@@ -81,7 +109,54 @@ public class ProcessModelContentConverter implements ModelContentConverter<BpmnP
                 .map(BpmnProcessModelContent::new);
     }
 
+    /**
+     * Convert the given bytes to a new {@link BpmnModel}, owned by the caller.
+     * @param modelContent the xml content
+     * @return the bpmn model
+     * @throws IOException in case of I/O error
+     * @throws XMLStreamException in case of xml parsing error
+     */
     public BpmnModel convertToBpmnModel(byte[] modelContent) throws IOException, XMLStreamException {
+        return doConvertToBpmnModel(modelContent);
+    }
+
+    /**
+     * Get the {@link BpmnModel} of the given bytes, reusing the cached one parsed from the same content if any.
+     * The returned model is shared with other callers, so it must only be read.
+     * @param modelContent the xml content
+     * @return the read-only bpmn model
+     * @throws IOException in case of I/O error
+     * @throws XMLStreamException in case of xml parsing error
+     */
+    public BpmnModel getReadOnlyBpmnModel(byte[] modelContent) throws IOException, XMLStreamException {
+        if (!bpmnModelCache.isEnabled()) {
+            return doConvertToBpmnModel(modelContent);
+        }
+
+        ByteBuffer key = bpmnModelCache.getKey(modelContent);
+        Optional<BpmnModel> cachedBpmnModel = bpmnModelCache.get(key);
+        if (cachedBpmnModel.isPresent()) {
+            return cachedBpmnModel.get();
+        }
+
+        BpmnModel bpmnModel = doConvertToBpmnModel(modelContent);
+        if (bpmnModel != null) {
+            bpmnModelCache.put(key,
+                               bpmnModel);
+        }
+        return bpmnModel;
+    }
+
+    private BpmnModel parseBpmnModel(byte[] modelContent) {
+        try {
+            return doConvertToBpmnModel(modelContent);
+        } catch (IOException | XMLStreamException ex) {
+            throw new ModelingException("Invalid bpmn model",
+                                        ex);
+        }
+    }
+
+    private BpmnModel doConvertToBpmnModel(byte[] modelContent) throws IOException, XMLStreamException {
         try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(modelContent))) {
             XMLStreamReader xmlReader = createSafeXmlInputFactory().createXMLStreamReader(reader);
             return bpmnConverter.convertToBpmnModel(xmlReader);
@@ -91,23 +166,26 @@ public class ProcessModelContentConverter implements ModelContentConverter<BpmnP
     @Override
     public FileContent overrideModelId(FileContent fileContent,
                                        Map<String, String> modelIdentifiers) {
-        FileContent newFileContent;
-        Optional<BpmnProcessModelContent> processModelContent = this.convertToModelContent(fileContent.getFileContent());
-        if (processModelContent.isPresent()) {
-            BpmnProcessModelContent modelContent = processModelContent.get();
-            ReferenceIdOverrider referenceIdOverrider = new ReferenceIdOverrider(modelIdentifiers);
-            this.overrideAllProcessDefinition(modelContent, referenceIdOverrider);
-            byte[] overriddenContent = this.convertToBytes(modelContent);
-            newFileContent = new FileContent(fileContent.getFilename(), fileContent.getContentType(), overriddenContent);
-        } else {
-            newFileContent = fileContent;
-        }
-        return newFileContent;
+        return this.convertToModelContent(fileContent.getFileContent())
+                .map(modelContent -> overrideModelId(fileContent,
+                                                     modelContent,
+                                                     modelIdentifiers))
+                .orElse(fileContent);
+    }
+
+    @Override
+    public FileContent overrideModelId(FileContent fileContent,
+                                       BpmnProcessModelContent modelContent,
+                                       Map<String, String> modelIdentifiers) {
+        ReferenceIdOverrider referenceIdOverrider = new ReferenceIdOverrider(modelIdentifiers);
+        this.overrideAllProcessDefinition(modelContent, referenceIdOverrider);
+        byte[] overriddenContent = this.convertToBytes(modelContent);
+        return new FileContent(fileContent.getFilename(), fileContent.getContentType(), overriddenContent);
     }
 
     public void overrideAllProcessDefinition(BpmnProcessModelContent processModelContent,
                                              ReferenceIdOverrider referenceIdOverrider) {
-        processModelContent.getBpmnModel().getProcesses().forEach(process -> {
+        processModelContent.getModifiableBpmnModel().getProcesses().forEach(process -> {
             overrideAllIdReferences(process, referenceIdOverrider);
         });
     }
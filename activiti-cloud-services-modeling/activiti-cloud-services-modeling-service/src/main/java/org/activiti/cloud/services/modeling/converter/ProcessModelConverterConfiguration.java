@@ -19,6 +19,7 @@ import org.activiti.bpmn.converter.BpmnXMLConverter;
 import org.activiti.cloud.modeling.api.ConnectorModelType;
 import org.activiti.cloud.modeling.api.ProcessModelType;
 import org.activiti.cloud.modeling.converter.JsonConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,10 +41,17 @@ public class ProcessModelConverterConfiguration {
                                                   connectorModelContentJsonConverter);
     }
 
+    @Bean
+    public BpmnModelCache bpmnModelCache(@Value("${activiti.modeling.bpmn-model-cache.max-size:500}") int maxSize) {
+        return new BpmnModelCache(maxSize);
+    }
+
     @Bean
     public ProcessModelContentConverter processModelContentConverter(ProcessModelType processModelType,
-                                                                     BpmnXMLConverter bpmnConverter) {
+                                                                     BpmnXMLConverter bpmnConverter,
+                                                                     BpmnModelCache bpmnModelCache) {
         return new ProcessModelContentConverter(processModelType,
-                                                bpmnConverter);
+                                                bpmnConverter,
+                                                bpmnModelCache);
     }
 }
@@ -28,11 +28,21 @@ import static org.activiti.cloud.services.common.util.ContentTypeUtils.toJsonFil
 import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 import static org.apache.commons.lang3.StringUtils.removeEnd;
 
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.transaction.Transactional;
 import javax.xml.stream.XMLStreamException;
@@ -43,27 +53,35 @@ import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.Task;
 import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.ModelContent;
+import org.activiti.cloud.modeling.api.ModelContentConverter;
+import org.activiti.cloud.modeling.api.ModelSummary;
 import org.activiti.cloud.modeling.api.ModelType;
+import org.activiti.cloud.modeling.api.ModelVersion;
 import org.activiti.cloud.modeling.api.Project;
 import org.activiti.cloud.modeling.api.ValidationContext;
 import org.activiti.cloud.modeling.api.process.Extensions;
 import org.activiti.cloud.modeling.converter.JsonConverter;
 import org.activiti.cloud.modeling.core.error.ImportModelException;
 import org.activiti.cloud.modeling.core.error.UnknownModelTypeException;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.modeling.repository.ModelRepository;
 import org.activiti.cloud.services.common.file.FileContent;
 import org.activiti.cloud.services.common.util.ContentTypeUtils;
 import org.activiti.cloud.services.modeling.converter.ProcessModelContentConverter;
+import org.activiti.cloud.services.modeling.service.api.ModelImportContext;
 import org.activiti.cloud.services.modeling.service.api.ModelService;
 import org.activiti.cloud.services.modeling.validation.ProjectValidationContext;
+import org.apache.commons.collections4.ListUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 /**
  * Business logic related to {@link Model} entities including process models, form models, connectors, data models and decision table models.
@@ -86,7 +104,9 @@ public class ModelServiceImpl implements ModelService{
 
     private final ProcessModelContentConverter processModelContentConverter;
 
-    private final HashMap<String, String> modelIdentifiers = new HashMap();
+    private final ExecutorService modelImportExecutor;
+
+    private final int importChunkSize;
 
     @Autowired
     public ModelServiceImpl(ModelRepository modelRepository,
@@ -94,21 +114,39 @@ public class ModelServiceImpl implements ModelService{
                             ModelContentService modelContentService,
                             ModelExtensionsService modelExtensionsService,
                             JsonConverter<Model> jsonConverter,
-                            ProcessModelContentConverter processModelContentConverter) {
+                            ProcessModelContentConverter processModelContentConverter,
+                            @Qualifier("modelImportExecutor") ExecutorService modelImportExecutor,
+                            int importChunkSize) {
         this.modelRepository = modelRepository;
         this.modelTypeService = modelTypeService;
         this.modelContentService = modelContentService;
         this.jsonConverter = jsonConverter;
         this.modelExtensionsService = modelExtensionsService;
         this.processModelContentConverter = processModelContentConverter;
+        this.modelImportExecutor = modelImportExecutor;
+        this.importChunkSize = importChunkSize;
     }
 
     @Override
     public List<Model> getAllModels(Project project) {
-        return modelTypeService.getAvailableModelTypes().stream().map(modelType -> getModels(project,
-                                                                                             modelType,
-                                                                                             Pageable.unpaged()))
-                .map(Page::getContent).flatMap(List::stream).collect(Collectors.toList());
+        return groupByAvailableModelType(modelRepository.getAllModels(project));
+    }
+
+    private List<Model> groupByAvailableModelType(List<Model> models) {
+        Map<String, List<Model>> modelsByType = models
+                .stream()
+                .collect(Collectors.groupingBy(Model::getType));
+        return modelTypeService.getAvailableModelTypes()
+                .stream()
+                .map(modelType -> modelsByType.getOrDefault(modelType.getName(),
+                                                            Collections.emptyList()))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Model> streamAllModels(Project project) {
+        return modelRepository.streamAllModels(project);
     }
 
     @Override
@@ -120,6 +158,37 @@ public class ModelServiceImpl implements ModelService{
                                          pageable);
     }
 
+    @Override
+    public Page<ModelSummary> getModelSummaries(Project project,
+                                                ModelType modelType,
+                                                Pageable pageable) {
+        return modelRepository.getModelSummaries(project,
+                                                 modelType,
+                                                 pageable);
+    }
+
+    @Override
+    public List<ModelSummary> getModelSummariesAfter(Project project,
+                                                     ModelType modelType,
+                                                     KeysetCursor cursor,
+                                                     int size) {
+        return modelRepository.getModelSummariesAfter(project,
+                                                      modelType,
+                                                      cursor,
+                                                      size);
+    }
+
+    @Override
+    public List<ModelSummary> getModelSummariesBefore(Project project,
+                                                      ModelType modelType,
+                                                      KeysetCursor cursor,
+                                                      int size) {
+        return modelRepository.getModelSummariesBefore(project,
+                                                       modelType,
+                                                       cursor,
+                                                       size);
+    }
+
     @Override
     public Model buildModel(String type,
                             String name) {
@@ -137,6 +206,13 @@ public class ModelServiceImpl implements ModelService{
     public Model createModel(Project project,
                              Model model) {
         model.setId(null);
+        initializeModel(project,
+                        model);
+        return modelRepository.createModel(model);
+    }
+
+    private void initializeModel(Project project,
+                                 Model model) {
         ModelType modelType = findModelType(model);
         model.setProject(project);
         if (model.getExtensions() == null) {
@@ -144,7 +220,6 @@ public class ModelServiceImpl implements ModelService{
                 model.setExtensions(new HashMap<String, Object>());
             }
         }
-        return modelRepository.createModel(model);
     }
 
     @Override
@@ -159,6 +234,11 @@ public class ModelServiceImpl implements ModelService{
         modelRepository.deleteModel(model);
     }
 
+    @Override
+    public void deleteAllModels(Project project) {
+        modelRepository.deleteAllModels(project);
+    }
+
     @Override
     public Optional<Model> findModelById(String modelId) {
         return modelRepository.findModelById(modelId);
@@ -170,11 +250,10 @@ public class ModelServiceImpl implements ModelService{
             return Optional.empty();
         }
 
-        Model fullModel = findModelById(model.getId()).orElse(model);
-        Model modelToFile = buildModel(fullModel.getType(),
-                                       fullModel.getName());
-        modelToFile.setId(fullModel.getType().toLowerCase().concat("-").concat(model.getId()));
-        modelToFile.setExtensions(fullModel.getExtensions());
+        Model modelToFile = buildModel(model.getType(),
+                                       model.getName());
+        modelToFile.setId(model.getType().toLowerCase().concat("-").concat(model.getId()));
+        modelToFile.setExtensions(model.getExtensions());
 
         FileContent extensionsFileContent = new FileContent(getExtensionsFilename(model),
                                                             CONTENT_TYPE_JSON,
@@ -182,11 +261,6 @@ public class ModelServiceImpl implements ModelService{
         return Optional.of(extensionsFileContent);
     }
 
-    @Override
-    public void cleanModelIdList() {
-        this.modelIdentifiers.clear();
-    }
-
     @Override
     public Optional<FileContent> getModelDiagramFile(String modelId) {
         //TODO: to implement
@@ -210,10 +284,58 @@ public class ModelServiceImpl implements ModelService{
                                    modelRepository.getModelExport(model));
     }
 
+    @Override
+    public void writeModelContent(Model model,
+                                  OutputStream outputStream) throws IOException {
+        try (InputStream content = modelRepository.getModelContentStream(model)) {
+            StreamUtils.copy(content,
+                             outputStream);
+        }
+    }
+
+    @Override
+    public void exportModel(Model model,
+                            OutputStream outputStream) throws IOException {
+        try (InputStream export = modelRepository.getModelExportStream(model)) {
+            StreamUtils.copy(export,
+                             outputStream);
+        }
+    }
+
+    @Override
+    public String getModelContentFilename(Model model) {
+        return setExtension(model.getName(),
+                            findModelType(model).getContentFileExtension());
+    }
+
+    @Override
+    public List<ModelVersion> getModelVersions(Model model,
+                                               Long beforeVersionSequence,
+                                               int size) {
+        return modelRepository.getModelVersions(model,
+                                                beforeVersionSequence,
+                                                size);
+    }
+
+    @Override
+    public Optional<ModelVersion> findModelVersion(Model model,
+                                                   String version) {
+        return modelRepository.findModelVersion(model,
+                                                version);
+    }
+
+    @Override
+    public void writeModelVersionContent(ModelVersion modelVersion,
+                                         OutputStream outputStream) throws IOException {
+        try (InputStream content = modelRepository.getModelVersionContentStream(modelVersion)) {
+            StreamUtils.copy(content,
+                             outputStream);
+        }
+    }
+
     private FileContent getModelFileContent(Model model,
                                             byte[] modelBytes) {
-        return new FileContent(setExtension(model.getName(),
-                                            findModelType(model).getContentFileExtension()),
+        return new FileContent(getModelContentFilename(model),
                                model.getContentType(),
                                modelBytes);
     }
@@ -221,34 +343,75 @@ public class ModelServiceImpl implements ModelService{
     @Override
     public Model updateModelContent(Model modelToBeUpdate,
                                     FileContent fileContent) {
-        FileContent fixedFileContent = this.modelIdentifiers.isEmpty()
-                ? fileContent
-                : overrideModelContentId(modelToBeUpdate,
-                                         fileContent);
+        return updateModelContent(modelToBeUpdate,
+                                  fileContent,
+                                  new ModelImportContext());
+    }
+
+    @Override
+    public Model updateModelContent(Model modelToBeUpdate,
+                                    String filename,
+                                    String contentType,
+                                    InputStream content,
+                                    long contentLength) throws IOException {
+        return updateModelContent(modelToBeUpdate,
+                                  new FileContent(filename,
+                                                  contentType,
+                                                  readContent(content,
+                                                              contentLength)));
+    }
+
+    /**
+     * Read a content stream into a single array, sized up front when the content length is known.
+     */
+    private byte[] readContent(InputStream content,
+                               long contentLength) throws IOException {
+        if (contentLength < 0 || contentLength > Integer.MAX_VALUE) {
+            return StreamUtils.copyToByteArray(content);
+        }
+        byte[] bytes = new byte[(int) contentLength];
+        new DataInputStream(content).readFully(bytes);
+        return bytes;
+    }
 
+    @Override
+    public Model updateModelContent(Model modelToBeUpdate,
+                                    FileContent fileContent,
+                                    ModelImportContext importContext) {
+        ModelFileContent<?> modelFileContent = convertModelFileContent(modelToBeUpdate.getType(),
+                                                                       fileContent);
+        return saveModelContent(modelToBeUpdate,
+                                modelFileContent.overrideModelId(importContext.getModelIdentifiers()),
+                                modelFileContent.getModelContent());
+    }
+
+    private Model saveModelContent(Model modelToBeUpdate,
+                                   FileContent fixedFileContent,
+                                   Optional<? extends ModelContent> modelContent) {
+        setModelContent(modelToBeUpdate,
+                        fixedFileContent,
+                        modelContent);
+        return modelRepository.updateModelContent(modelToBeUpdate,
+                                                  fixedFileContent);
+    }
+
+    private void setModelContent(Model modelToBeUpdate,
+                                 FileContent fixedFileContent,
+                                 Optional<? extends ModelContent> modelContent) {
         modelToBeUpdate.setContentType(fixedFileContent.getContentType());
         modelToBeUpdate.setContent(fixedFileContent.getFileContent());
-
-        try{
-          Optional.ofNullable(modelToBeUpdate.getType()).flatMap(modelContentService::findModelContentConverter)
-            .flatMap(validator -> validator.convertToModelContent(fixedFileContent.getFileContent()))
-            .ifPresent(modelContent -> modelToBeUpdate.setTemplate(modelContent.getTemplate()));
-        }catch(XMLException e){
-          throw new ImportModelException("Error importing model : "+e.getMessage());
-        }
+        modelContent.ifPresent(content -> modelToBeUpdate.setTemplate(content.getTemplate()));
 
         emptyIfNull(modelContentService.findContentUploadListeners(modelToBeUpdate.getType())).stream().forEach(listener -> listener.execute(modelToBeUpdate,
                                                                                                                                              fixedFileContent));
-
-        return modelRepository.updateModelContent(modelToBeUpdate,
-                                                  fixedFileContent);
     }
 
     @Override
     public FileContent overrideModelContentId(Model model,
-                                              FileContent fileContent) {
+                                              FileContent fileContent,
+                                              ModelImportContext importContext) {
         return modelContentService.findModelContentConverter(model.getType()).map(modelContentConverter -> modelContentConverter.overrideModelId(fileContent,
-                                                                                                                                                 this.modelIdentifiers))
+                                                                                                                                                 importContext.getModelIdentifiers()))
                 .orElse(fileContent);
     }
 
@@ -263,19 +426,41 @@ public class ModelServiceImpl implements ModelService{
     public Model importSingleModel(Project project,
                                    ModelType modelType,
                                    FileContent fileContent) {
+        return importSingleModel(project,
+                                 modelType,
+                                 fileContent,
+                                 new ModelImportContext());
+    }
+
+    @Override
+    public Model importSingleModel(Project project,
+                                   ModelType modelType,
+                                   FileContent fileContent,
+                                   ModelImportContext importContext) {
         Model model = this.importModel(project,
                                        modelType,
-                                       fileContent);
-        model = this.updateModelContent(model,
-                                       fileContent);
-        this.cleanModelIdList();
-        return model;
+                                       fileContent,
+                                       importContext);
+        return this.updateModelContent(model,
+                                       fileContent,
+                                       importContext);
     }
 
     @Override
     public Model importModel(Project project,
                              ModelType modelType,
                              FileContent fileContent) {
+        return importModel(project,
+                           modelType,
+                           fileContent,
+                           new ModelImportContext());
+    }
+
+    @Override
+    public Model importModel(Project project,
+                             ModelType modelType,
+                             FileContent fileContent,
+                             ModelImportContext importContext) {
         logger.debug(MessageFormat.format("Importing model type {0} from file {1}: {2}",
                                           modelType,
                                           fileContent.getFilename(),
@@ -283,37 +468,169 @@ public class ModelServiceImpl implements ModelService{
 
         Model model = importModelFromContent(project,
                                              modelType,
-                                             fileContent);
+                                             fileContent,
+                                             importContext);
         return model;
     }
 
     @Override
     public Model importModelFromContent(Project project,
                                         ModelType modelType,
-                                        FileContent fileContent) {
-        Model model = null;
-        if (modelTypeService.isJson(modelType) || ContentTypeUtils.isJsonContentType(fileContent.getContentType())) {
-            model = convertContentToModel(modelType,
-                                          fileContent);
-        } else {
-            model = createModelFromContent(modelType,
-                                           fileContent);
-        }
+                                        FileContent fileContent,
+                                        ModelImportContext importContext) {
+        Model model = buildModelFromContent(modelType,
+                                            fileContent);
         String convertedId = model.getId();
 
-        if (model.getId() == null && (modelTypeService.isJson(modelType) == ContentTypeUtils.isJsonContentType(fileContent.getContentType()))) {
+        if (model.getId() == null && isModelIdInContent(modelType,
+                                                        fileContent)) {
             convertedId = retrieveModelIdFromModelContent(model,
                                             fileContent);
         }
         createModel(project,
                     model);
+        addModelIdentifier(importContext,
+                           convertedId,
+                           model);
+        return model;
+    }
+
+    /**
+     * Imports the given model files in two passes over bounded chunks of models, so that only the contents of one chunk
+     * are held at a time. The first pass reads and converts the contents in parallel to identify the models, assigning
+     * their identifiers. The second pass reads the contents again, overrides the identifiers they reference in parallel
+     * and creates the models with their content and extensions, each in a single version. When all the models fit in a
+     * single chunk, the contents read in the first pass are kept for the second one.
+     */
+    @Override
+    public void importModels(Project project,
+                             Map<ModelType, List<Supplier<FileContent>>> modelFiles,
+                             ModelImportContext importContext,
+                             Function<Model, Optional<Map<String, Object>>> importedExtensions) {
+        List<ImportedModel> importedModels = new ArrayList<>();
+        modelFiles.forEach((modelType, fileContents) -> fileContents
+                .forEach(fileContent -> importedModels.add(new ImportedModel(modelType,
+                                                                             fileContent))));
+        List<List<ImportedModel>> chunks = ListUtils.partition(importedModels,
+                                                               importChunkSize);
+        boolean singleChunk = chunks.size() <= 1;
+
+        for (List<ImportedModel> chunk : chunks) {
+            executeInParallel(chunk,
+                              this::readModelFileContent);
+            chunk.forEach(importedModel -> {
+                identifyModel(project,
+                              importContext,
+                              importedModel);
+                if (!singleChunk) {
+                    importedModel.releaseContent();
+                }
+            });
+        }
+
+        Map<String, String> modelIdentifiers = importContext.getModelIdentifiers();
+        for (List<ImportedModel> chunk : chunks) {
+            executeInParallel(chunk,
+                              importedModel -> {
+                                  if (importedModel.modelFileContent == null) {
+                                      readModelFileContent(importedModel);
+                                  }
+                                  importedModel.fixedFileContent = importedModel.modelFileContent.overrideModelId(modelIdentifiers);
+                              });
+            List<Model> models = chunk.stream()
+                    .map(importedModel -> {
+                        Model model = importedModel.model;
+                        setModelContent(model,
+                                        importedModel.fixedFileContent,
+                                        importedModel.modelFileContent.getModelContent());
+                        importedExtensions.apply(model)
+                                .ifPresent(model::setExtensions);
+                        importedModel.release();
+                        return model;
+                    })
+                    .collect(Collectors.toList());
+            modelRepository.createModels(models);
+        }
+    }
+
+    private void readModelFileContent(ImportedModel importedModel) {
+        importedModel.fileContent = importedModel.fileContentSupplier.get();
+        importedModel.modelFileContent = convertModelFileContent(importedModel.modelType.getName(),
+                                                                 importedModel.fileContent);
+    }
+
+    private void identifyModel(Project project,
+                               ModelImportContext importContext,
+                               ImportedModel importedModel) {
+        importedModel.model = buildModelFromContent(importedModel.modelType,
+                                                    importedModel.fileContent);
+        String convertedId = importedModel.model.getId();
+        if (convertedId == null && isModelIdInContent(importedModel.modelType,
+                                                      importedModel.fileContent)) {
+            convertedId = importedModel.modelFileContent.getModelContent().map(ModelContent::getId).orElse(null);
+        }
+        importedModel.model.setId(UUID.randomUUID().toString());
+        initializeModel(project,
+                        importedModel.model);
+        addModelIdentifier(importContext,
+                           convertedId,
+                           importedModel.model);
+    }
+
+    private Model buildModelFromContent(ModelType modelType,
+                                        FileContent fileContent) {
+        return modelTypeService.isJson(modelType) || ContentTypeUtils.isJsonContentType(fileContent.getContentType())
+                ? convertContentToModel(modelType,
+                                        fileContent)
+                : createModelFromContent(modelType,
+                                         fileContent);
+    }
+
+    private boolean isModelIdInContent(ModelType modelType,
+                                       FileContent fileContent) {
+        return modelTypeService.isJson(modelType) == ContentTypeUtils.isJsonContentType(fileContent.getContentType());
+    }
+
+    private void addModelIdentifier(ModelImportContext importContext,
+                                    String convertedId,
+                                    Model model) {
         if (convertedId != null) {
-            modelIdentifiers.put(convertedId,
-                                 String.join("-",
-                                             model.getType().toLowerCase(),
-                                             model.getId()));
+            importContext.addModelIdentifier(convertedId,
+                                             String.join("-",
+                                                         model.getType().toLowerCase(),
+                                                         model.getId()));
+        }
+    }
+
+    private ModelFileContent<?> convertModelFileContent(String modelType,
+                                                        FileContent fileContent) {
+        return ModelFileContent.of(fileContent,
+                                   Optional.ofNullable(modelType)
+                                           .flatMap(modelContentService::findModelContentConverter)
+                                           .orElse(null));
+    }
+
+    private <T> void executeInParallel(List<T> items,
+                                       Consumer<T> task) {
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(modelImportExecutor.submit(() -> task.accept(item)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportModelException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ImportModelException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
         }
-        return model;
     }
 
     @Override
@@ -328,6 +645,22 @@ public class ModelServiceImpl implements ModelService{
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public <T extends Task> List<T> getTasksBy(Model model, @NonNull Class<T> clazz) {
+        Assert.notNull(clazz, "Class task type it must not be null");
+        if (!PROCESS.equals(model.getType()) || model.getContent() == null) {
+            return Collections.emptyList();
+        }
+        return safeGetBpmnModel(model)
+                .getProcesses()
+                .stream()
+                .map(Process::getFlowElements)
+                .flatMap(Collection::stream)
+                .filter(clazz::isInstance)
+                .map(clazz::cast)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Process> getProcessesBy(Project project, ModelType type) {
         return this.getModels(project, type, Pageable.unpaged())
@@ -471,4 +804,88 @@ public class ModelServiceImpl implements ModelService{
                 .orElseThrow(() -> new UnknownModelTypeException("Unknown model type: " + model.getType()));
     }
 
+    /**
+     * A file content together with the model content converted from it, so that it is converted only once.
+     */
+    private static class ModelFileContent<T extends ModelContent> {
+
+        private final FileContent fileContent;
+
+        private final ModelContentConverter<T> modelContentConverter;
+
+        private final Optional<T> modelContent;
+
+        private ModelFileContent(FileContent fileContent,
+                                 ModelContentConverter<T> modelContentConverter,
+                                 Optional<T> modelContent) {
+            this.fileContent = fileContent;
+            this.modelContentConverter = modelContentConverter;
+            this.modelContent = modelContent;
+        }
+
+        private static <T extends ModelContent> ModelFileContent<T> of(FileContent fileContent,
+                                                                       ModelContentConverter<T> modelContentConverter) {
+            if (modelContentConverter == null) {
+                return new ModelFileContent<>(fileContent,
+                                              null,
+                                              Optional.empty());
+            }
+            try {
+                return new ModelFileContent<>(fileContent,
+                                              modelContentConverter,
+                                              modelContentConverter.convertToModelContent(fileContent.getFileContent()));
+            } catch (XMLException e) {
+                throw new ImportModelException("Error importing model : " + e.getMessage());
+            }
+        }
+
+        private Optional<T> getModelContent() {
+            return modelContent;
+        }
+
+        private FileContent overrideModelId(Map<String, String> modelIdentifiers) {
+            if (modelContentConverter == null || modelIdentifiers.isEmpty()) {
+                return fileContent;
+            }
+            return modelContent
+                    .map(content -> modelContentConverter.overrideModelId(fileContent,
+                                                                          content,
+                                                                          modelIdentifiers))
+                    .orElseGet(() -> modelContentConverter.overrideModelId(fileContent,
+                                                                           modelIdentifiers));
+        }
+    }
+
+    private static class ImportedModel {
+
+        private final ModelType modelType;
+
+        private final Supplier<FileContent> fileContentSupplier;
+
+        private FileContent fileContent;
+
+        private ModelFileContent<?> modelFileContent;
+
+        private Model model;
+
+        private FileContent fixedFileContent;
+
+        private ImportedModel(ModelType modelType,
+                              Supplier<FileContent> fileContentSupplier) {
+            this.modelType = modelType;
+            this.fileContentSupplier = fileContentSupplier;
+        }
+
+        private void releaseContent() {
+            fileContent = null;
+            modelFileContent = null;
+            fixedFileContent = null;
+        }
+
+        private void release() {
+            releaseContent();
+            model = null;
+        }
+    }
+
 }
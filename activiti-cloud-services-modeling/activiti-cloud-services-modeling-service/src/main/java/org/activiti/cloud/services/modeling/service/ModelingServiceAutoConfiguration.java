@@ -2,6 +2,8 @@ package org.activiti.cloud.services.modeling.service;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import org.activiti.cloud.modeling.api.ContentUpdateListener;
 import org.activiti.cloud.modeling.api.Model;
@@ -20,6 +22,8 @@ import org.activiti.cloud.services.modeling.service.api.ProjectService;
 import org.activiti.cloud.services.modeling.validation.extensions.ExtensionsModelValidator;
 import org.activiti.cloud.services.modeling.validation.project.ProjectValidator;
 import org.everit.json.schema.loader.SchemaLoader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -58,16 +62,31 @@ public class ModelingServiceAutoConfiguration {
                                      ModelContentService modelContentService,
                                      ModelExtensionsService modelExtensionsService,
                                      JsonConverter<Model> jsonConverter,
-                                     ProcessModelContentConverter processModelContentConverter) {
+                                     ProcessModelContentConverter processModelContentConverter,
+                                     @Qualifier("modelImportExecutor") ExecutorService modelImportExecutor,
+                                     @Value("${activiti.modeling.import.chunk-size:100}") int importChunkSize) {
         return new ModelServiceImpl(modelRepository,
                                     modelTypeService,
                                     modelContentService,
                                     modelExtensionsService,
                                     jsonConverter,
-                                    processModelContentConverter);
+                                    processModelContentConverter,
+                                    modelImportExecutor,
+                                    importChunkSize);
 
     }
 
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "modelImportExecutor")
+    public ExecutorService modelImportExecutor(@Value("${activiti.modeling.import.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public ProjectZipFileReader projectZipFileReader(@Value("${activiti.modeling.import.max-uncompressed-size:536870912}") long maxUncompressedSize) {
+        return new ProjectZipFileReader(maxUncompressedSize);
+    }
+
     @Bean
     public ModelTypeService modelTypeService(Set<ModelType> availableModelTypes) {
         return new ModelTypeService(availableModelTypes);
@@ -80,7 +99,8 @@ public class ModelingServiceAutoConfiguration {
                                          JsonConverter<Project> jsonConverter,
                                          JsonConverter<ProjectDescriptor> projectDescriptorJsonConverter,
                                          JsonConverter<Map> jsonMetadataConverter,
-                                         Set<ProjectValidator> projectValidators) {
+                                         Set<ProjectValidator> projectValidators,
+                                         ProjectZipFileReader projectZipFileReader) {
 
         return new ProjectServiceImpl(projectRepository,
                                       modelService,
@@ -88,7 +108,8 @@ public class ModelingServiceAutoConfiguration {
                                       projectDescriptorJsonConverter,
                                       jsonConverter,
                                       jsonMetadataConverter,
-                                      projectValidators);
+                                      projectValidators,
+                                      projectZipFileReader);
 
     }
 
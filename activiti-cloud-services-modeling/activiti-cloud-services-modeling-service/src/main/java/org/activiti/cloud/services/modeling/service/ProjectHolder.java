@@ -16,8 +16,13 @@
 
 package org.activiti.cloud.services.modeling.service;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.ModelType;
@@ -41,7 +46,7 @@ public class ProjectHolder {
 
   private final MultiKeyMap<String, ModelXmlFile> modelContent = new MultiKeyMap<>();
 
-  private final MultiKeyMap<String, FileContent> extensionFilesMap = new MultiKeyMap<>();
+  private final MultiKeyMap<String, Supplier<FileContent>> extensionFilesMap = new MultiKeyMap<>();
 
   public ProjectHolder setProject(Project project, @Nullable String name) {
       if (this.project == null) {
@@ -55,7 +60,7 @@ public class ProjectHolder {
 
   public ProjectHolder addModelJsonFile(String modelName,
                                         ModelType modelType,
-                                        FileContent fileContent) {
+                                        Supplier<FileContent> fileContent) {
     modelJsonFilesMap.put(key(modelName,
       modelType),
       new ModelJsonFile(modelType,
@@ -65,7 +70,7 @@ public class ProjectHolder {
 
   public ProjectHolder addProcess(String modelName,
                                        ModelType modelType,
-                                       FileContent fileContent) {
+                                       Supplier<FileContent> fileContent) {
     processFileMap.put(key(modelName,
       modelType),
       new ModelProcessFile(modelType,fileContent));
@@ -74,7 +79,7 @@ public class ProjectHolder {
 
   public ProjectHolder addModelContent(String modelName,
                                        ModelType modelType,
-                                       FileContent fileContent) {
+                                       Supplier<FileContent> fileContent) {
     modelContent.put(key(modelName,
       modelType),
       new ModelXmlFile(modelType, fileContent));
@@ -83,7 +88,7 @@ public class ProjectHolder {
 
   public ProjectHolder addModelExtension(String modelName,
                                          ModelType modelType,
-                                         FileContent fileContent) {
+                                         Supplier<FileContent> fileContent) {
     extensionFilesMap.put(key(modelName,
       modelType),
       fileContent);
@@ -106,11 +111,38 @@ public class ProjectHolder {
     return modelContent.values();
   }
 
-  public Optional<FileContent> getModelExtension(Model model) {
+  public Map<ModelType, List<Supplier<FileContent>>> getModelFilesByType() {
+    Map<ModelType, List<Supplier<FileContent>>> modelFiles = new LinkedHashMap<>();
+    getModelJsonFiles().forEach(modelJsonFile -> addModelFile(modelFiles,
+      modelJsonFile.getModelType(),
+      modelJsonFile.getFileContent()));
+    getModelContentFiles().forEach(modelXmlFile -> addModelFile(modelFiles,
+      modelXmlFile.getModelType(),
+      modelXmlFile.getFileContent()));
+    getProcessFiles().forEach(modelProcessFile -> addModelFile(modelFiles,
+      modelProcessFile.getModelType(),
+      modelProcessFile.getFileContent()));
+    return modelFiles;
+  }
+
+  private void addModelFile(Map<ModelType, List<Supplier<FileContent>>> modelFiles,
+                            ModelType modelType,
+                            Supplier<FileContent> fileContent) {
+    modelFiles.computeIfAbsent(modelType,
+      type -> new ArrayList<>()).add(fileContent);
+  }
+
+  /**
+   * Read the extension file of a model, once: the extension file is released once read.
+   * @param model the model to read the extension file of
+   * @return the extension file content, if not read yet
+   */
+  public Optional<FileContent> takeModelExtension(Model model) {
     return Optional.ofNullable(model.getName())
       .map(name -> key(name,
         model.getType()))
-      .map(extensionFilesMap::get);
+      .map(extensionFilesMap::remove)
+      .map(Supplier::get);
   }
 
   private MultiKey<String> key(String name,
@@ -129,10 +161,10 @@ public class ProjectHolder {
 
     private final ModelType modelType;
 
-    private final FileContent fileContent;
+    private final Supplier<FileContent> fileContent;
 
     public ModelXmlFile(ModelType modelType,
-                         FileContent fileContent) {
+                         Supplier<FileContent> fileContent) {
       this.modelType = modelType;
       this.fileContent = fileContent;
     }
@@ -141,7 +173,7 @@ public class ProjectHolder {
       return modelType;
     }
 
-    public FileContent getFileContent() {
+    public Supplier<FileContent> getFileContent() {
       return fileContent;
     }
   }
@@ -150,10 +182,10 @@ public class ProjectHolder {
 
     private final ModelType modelType;
 
-    private final FileContent fileContent;
+    private final Supplier<FileContent> fileContent;
 
     public ModelProcessFile(ModelType modelType,
-                        FileContent fileContent) {
+                        Supplier<FileContent> fileContent) {
       this.modelType = modelType;
       this.fileContent = fileContent;
     }
@@ -162,7 +194,7 @@ public class ProjectHolder {
       return modelType;
     }
 
-    public FileContent getFileContent() {
+    public Supplier<FileContent> getFileContent() {
       return fileContent;
     }
   }
@@ -171,10 +203,10 @@ public class ProjectHolder {
 
     private final ModelType modelType;
 
-    private final FileContent fileContent;
+    private final Supplier<FileContent> fileContent;
 
     public ModelJsonFile(ModelType modelType,
-                         FileContent fileContent) {
+                         Supplier<FileContent> fileContent) {
       this.modelType = modelType;
       this.fileContent = fileContent;
     }
@@ -183,7 +215,7 @@ public class ProjectHolder {
       return modelType;
     }
 
-    public FileContent getFileContent() {
+    public Supplier<FileContent> getFileContent() {
       return fileContent;
     }
   }
@@ -16,19 +16,23 @@
 
 package org.activiti.cloud.services.modeling.service;
 
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.CONTENT_TYPE_ZIP;
 import static org.activiti.cloud.services.common.util.ContentTypeUtils.JSON;
-import static org.activiti.cloud.services.common.util.ContentTypeUtils.getContentTypeByPath;
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.ZIP;
 import static org.activiti.cloud.services.common.util.ContentTypeUtils.removeExtension;
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.setExtension;
 import static org.activiti.cloud.services.common.util.ContentTypeUtils.toJsonFilename;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-
-import javax.transaction.Transactional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.activiti.bpmn.model.UserTask;
 import org.activiti.cloud.modeling.api.Model;
@@ -40,10 +44,11 @@ import org.activiti.cloud.modeling.api.ValidationContext;
 import org.activiti.cloud.modeling.converter.JsonConverter;
 import org.activiti.cloud.modeling.core.error.ImportProjectException;
 import org.activiti.cloud.modeling.core.error.SemanticModelValidationException;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.modeling.repository.ProjectRepository;
 import org.activiti.cloud.services.common.file.FileContent;
-import org.activiti.cloud.services.common.zip.ZipBuilder;
-import org.activiti.cloud.services.common.zip.ZipStream;
+import org.activiti.cloud.services.modeling.service.ProjectZipFile.ProjectZipEntry;
+import org.activiti.cloud.services.modeling.service.api.ModelImportContext;
 import org.activiti.cloud.services.modeling.service.api.ModelService;
 import org.activiti.cloud.services.modeling.service.api.ModelService.ProjectAccessControl;
 import org.activiti.cloud.services.modeling.service.api.ProjectService;
@@ -55,6 +60,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -80,6 +86,8 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final Set<ProjectValidator> projectValidators;
 
+    private final ProjectZipFileReader projectZipFileReader;
+
     @Autowired
     public ProjectServiceImpl(ProjectRepository projectRepository,
                               ModelService modelService,
@@ -87,7 +95,8 @@ public class ProjectServiceImpl implements ProjectService {
                               JsonConverter<ProjectDescriptor> descriptorJsonConverter,
                               JsonConverter<Project> jsonConverter,
                               JsonConverter<Map> jsonMetadataConverter,
-                              Set<ProjectValidator> projectValidators) {
+                              Set<ProjectValidator> projectValidators,
+                              ProjectZipFileReader projectZipFileReader) {
         this.projectRepository = projectRepository;
         this.modelService = modelService;
         this.modelTypeService = modelTypeService;
@@ -95,6 +104,7 @@ public class ProjectServiceImpl implements ProjectService {
         this.jsonConverter = jsonConverter;
         this.projectValidators = projectValidators;
         this.jsonMetadataConverter = jsonMetadataConverter;
+        this.projectZipFileReader = projectZipFileReader;
     }
 
     /**
@@ -111,6 +121,26 @@ public class ProjectServiceImpl implements ProjectService {
                 projectName);
     }
 
+    @Override
+    public List<Project> getProjectsAfter(String name,
+                                          KeysetCursor cursor,
+                                          int size) {
+        String projectName = name != null ? name.toLowerCase() : null;
+        return projectRepository.getProjectsAfter(projectName,
+                                                  cursor,
+                                                  size);
+    }
+
+    @Override
+    public List<Project> getProjectsBefore(String name,
+                                           KeysetCursor cursor,
+                                           int size) {
+        String projectName = name != null ? name.toLowerCase() : null;
+        return projectRepository.getProjectsBefore(projectName,
+                                                   cursor,
+                                                   size);
+    }
+
     /**
      * Create an project.
      *
@@ -139,13 +169,13 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     /**
-     * Delete an project.
+     * Delete an project, with its models deleted in bulk.
      *
      * @param project the project to be deleted
      */
     @Override
     public void deleteProject(Project project) {
-        modelService.getAllModels(project).forEach(modelService::deleteModel);
+        modelService.deleteAllModels(project);
         projectRepository.deleteProject(project);
     }
 
@@ -168,20 +198,88 @@ public class ProjectServiceImpl implements ProjectService {
      * @throws IOException in case of I/O error
      */
     @Override
+    @Transactional(readOnly = true)
     public FileContent exportProject(Project project) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportProject(project,
+                      outputStream);
+        return new FileContent(getExportFilename(project),
+                               CONTENT_TYPE_ZIP,
+                               outputStream.toByteArray());
+    }
 
-        ProjectDescriptor projectDescriptor = buildDescriptor(project);
+    /**
+     * Export an project as zip content written to the given output stream, one model at a time.
+     * The project descriptor is written last, with the access control collected from the same pass over the models.
+     *
+     * @param project      the project to export
+     * @param outputStream the output stream to write the zip content to, left open
+     * @throws IOException in case of I/O error
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProject(Project project,
+                              OutputStream outputStream) throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        Set<String> folders = new HashSet<>();
+        Set<String> users = new HashSet<>();
+        Set<String> groups = new HashSet<>();
+        try (Stream<Model> models = modelService.streamAllModels(project)) {
+            Iterator<Model> modelsIterator = models.iterator();
+            while (modelsIterator.hasNext()) {
+                Model model = modelsIterator.next();
+                exportModel(zipOutputStream,
+                            folders,
+                            model);
+                List<UserTask> userTasks = modelService.getTasksBy(model, UserTask.class);
+                users.addAll(extractFromTasks(this::selectUsers, userTasks));
+                groups.addAll(extractFromTasks(this::selectGroups, userTasks));
+            }
+        }
 
-        ZipBuilder zipBuilder = new ZipBuilder(project.getName())
-                .appendFile(descriptorJsonConverter.convertToJsonBytes(projectDescriptor), toJsonFilename(project.getName()));
+        writeZipEntry(zipOutputStream,
+                      toJsonFilename(project.getName()),
+                      descriptorJsonConverter.convertToJsonBytes(buildDescriptor(project,
+                                                                                 new ProjectAccessControl(users, groups))));
+        zipOutputStream.finish();
+    }
 
-        modelService.getAllModels(project).forEach(model -> modelTypeService.findModelTypeByName(model.getType()).map(ModelType::getFolderName).ifPresent(folderName -> {
-            zipBuilder.appendFolder(folderName)
-                    .appendFile(modelService.exportModel(model), folderName);
-            modelService.getModelExtensionsFileContent(model)
-                    .map(extensionFileContent -> zipBuilder.appendFile(extensionFileContent, folderName));
-        }));
-        return zipBuilder.toZipFileContent();
+    private void exportModel(ZipOutputStream zipOutputStream,
+                             Set<String> folders,
+                             Model model) throws IOException {
+        Optional<String> folderName = modelTypeService.findModelTypeByName(model.getType()).map(ModelType::getFolderName);
+        if (folderName.isPresent()) {
+            String folderPath = folderName.get() + "/";
+            if (folders.add(folderPath)) {
+                zipOutputStream.putNextEntry(new ZipEntry(folderPath));
+                zipOutputStream.closeEntry();
+            }
+            FileContent modelFileContent = modelService.exportModel(model);
+            writeZipEntry(zipOutputStream,
+                          folderPath + modelFileContent.getFilename(),
+                          modelFileContent.getFileContent());
+            Optional<FileContent> extensionsFileContent = modelService.getModelExtensionsFileContent(model);
+            if (extensionsFileContent.isPresent()) {
+                writeZipEntry(zipOutputStream,
+                              folderPath + extensionsFileContent.get().getFilename(),
+                              extensionsFileContent.get().getFileContent());
+            }
+            zipOutputStream.flush();
+        }
+    }
+
+    @Override
+    public String getExportFilename(Project project) {
+        return setExtension(project.getName(),
+                            ZIP);
+    }
+
+    private void writeZipEntry(ZipOutputStream zipOutputStream,
+                               String entryName,
+                               byte[] content) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
     }
 
     @Override
@@ -230,35 +328,24 @@ public class ProjectServiceImpl implements ProjectService {
         return !EXPRESSION_REGEX.matcher(v).find();
     }
 
-    private ProjectDescriptor buildDescriptor(Project project) {
+    private ProjectDescriptor buildDescriptor(Project project,
+                                              ProjectAccessControl accessControl) {
         ProjectDescriptor projectDescriptor = new ProjectDescriptor(project);
-        ProjectAccessControl accessControl = this.getProjectAccessControl(project);
         projectDescriptor.setUsers(accessControl.getUsers());
         projectDescriptor.setGroups(accessControl.getGroups());
         return projectDescriptor;
     }
 
-    private Optional<FileContent> createFileContentFromZipEntry(ZipStream.ZipStreamEntry zipEntry) {
-        return zipEntry.getContent()
-                .map(bytes -> getContentTypeByPath(zipEntry.getFileName())
-                        .map(contentType -> new FileContent(zipEntry.getFileName(), contentType, bytes))
-                )
-                .orElse(Optional.empty());
-    }
-
-
-    private void convertZipElementToModelObject(ZipStream.ZipStreamEntry zipEntry, @Nullable String name, FileContent fileContent, ProjectHolder projectHolder) {
-        Optional<String> folderName = zipEntry.getFolderName(0);
+    private void convertZipElementToModelObject(ProjectZipEntry zipEntry, @Nullable String name, ProjectHolder projectHolder) {
+        Optional<String> folderName = zipEntry.getFolderName();
 
         if (folderName.isPresent()) {
             folderName.flatMap(modelTypeService::findModelTypeByFolderName)
-                    .ifPresent(modelType -> processZipEntryFile(projectHolder, fileContent, modelType)
+                    .ifPresent(modelType -> processZipEntryFile(projectHolder, zipEntry, modelType)
                     );
-        } else if (fileContent.isJson()) {
-            zipEntry.getContent().ifPresent(
-                    bytes -> jsonConverter.tryConvertToEntity(bytes)
-                            .ifPresent(project -> projectHolder.setProject(project, name))
-            );
+        } else if (zipEntry.isJson()) {
+            jsonConverter.tryConvertToEntity(zipEntry.getFileContent().getFileContent())
+                    .ifPresent(project -> projectHolder.setProject(project, name));
         }
     }
 
@@ -272,74 +359,31 @@ public class ProjectServiceImpl implements ProjectService {
      */
     @Override
     public Project importProject(MultipartFile file, @Nullable String name) throws IOException {
-        ProjectHolder projectHolder = new ProjectHolder();
-
-        ZipStream.of(file)
-                .forEach(zipEntry -> this.createFileContentFromZipEntry(zipEntry)
-                        .ifPresent(fileContent -> this.convertZipElementToModelObject(zipEntry, name, fileContent, projectHolder)));
-
-        Project createdProject = projectHolder.getProjectMetadata().map(this::createProject)
-                .orElseThrow(() -> new ImportProjectException("No valid project entry found to import: " + file.getOriginalFilename()));
+        try (ProjectZipFile projectZipFile = projectZipFileReader.read(file)) {
+            ProjectHolder projectHolder = new ProjectHolder();
+            ModelImportContext importContext = new ModelImportContext();
 
-        projectHolder.getModelJsonFiles().forEach(modelJsonFile -> {
-            this.importJSONModelFiles(projectHolder, createdProject, modelJsonFile);
-        });
-
-        projectHolder.getModelContentFiles().forEach(modelXmlFile ->
-                importXMLModelFiles(projectHolder, createdProject, modelXmlFile.getModelType(), modelXmlFile.getFileContent()));
-
-        Map<Model, FileContent> createdProcesses = this.createXMLModelFiles(projectHolder, createdProject);
-        createdProcesses.keySet().forEach(model -> this.updateModelProcessImported(projectHolder, model, createdProcesses.get(model)));
-
-        modelService.cleanModelIdList();
-        return createdProject;
-    }
+            projectZipFile.getEntries()
+                    .stream()
+                    .filter(zipEntry -> zipEntry.getContentType().isPresent())
+                    .forEach(zipEntry -> this.convertZipElementToModelObject(zipEntry, name, projectHolder));
 
-    private void importJSONModelFiles(ProjectHolder projectHolder,
-                                      Project createdProject,
-                                      ProjectHolder.ModelJsonFile modelJsonFile) {
-        Model createdModel = modelService.importModel(createdProject,
-                modelJsonFile.getModelType(),
-                modelJsonFile.getFileContent());
-
-        modelService.updateModelContent(createdModel, modelJsonFile.getFileContent());
-
-        projectHolder.getModelExtension(createdModel)
-                .ifPresent(fileMetadata -> {
-                    jsonMetadataConverter.tryConvertToEntity(fileMetadata.getFileContent())
-                            .ifPresent(extensions -> createdModel.setExtensions(this.getExtensionsValueMapFromJson(extensions)));
-                    modelService.updateModel(createdModel, createdModel);
-                });
-    }
+            Project createdProject = projectHolder.getProjectMetadata().map(this::createProject)
+                    .orElseThrow(() -> new ImportProjectException("No valid project entry found to import: " + file.getOriginalFilename()));
 
-    private Map<Model, FileContent> createXMLModelFiles(ProjectHolder projectHolder, Project createdProject) {
-        Map<Model, FileContent> createdModels = new HashMap<Model, FileContent>();
-        projectHolder.getProcessFiles().forEach(modelProcessFile -> {
-            Model createdModel = modelService.importModel(createdProject, modelProcessFile.getModelType(), modelProcessFile.getFileContent());
-            createdModels.put(createdModel, modelProcessFile.getFileContent());
-        });
-        return createdModels;
-    }
+            modelService.importModels(createdProject,
+                                      projectHolder.getModelFilesByType(),
+                                      importContext,
+                                      model -> this.getModelExtensionsImported(projectHolder, model));
 
-    private void importXMLModelFiles(ProjectHolder projectHolder,
-                                     Project createdProject,
-                                     ModelType modelType,
-                                     FileContent fileContent) {
-        Model createdModel = modelService.importModel(createdProject,
-                modelType,
-                fileContent);
-        this.updateModelProcessImported(projectHolder, createdModel, fileContent);
+            return createdProject;
+        }
     }
 
-    private void updateModelProcessImported(ProjectHolder projectHolder, Model createdModel, FileContent fileContent) {
-        modelService.updateModelContent(createdModel, fileContent);
-
-        projectHolder.getModelExtension(createdModel)
-                .ifPresent(fileMetadata -> {
-                    jsonMetadataConverter.tryConvertToEntity(fileMetadata.getFileContent())
-                            .ifPresent(extensions -> createdModel.setExtensions(this.getExtensionsValueMapFromJson(extensions)));
-                    modelService.updateModel(createdModel, createdModel);
-                });
+    private Optional<Map<String, Object>> getModelExtensionsImported(ProjectHolder projectHolder, Model model) {
+        return projectHolder.takeModelExtension(model)
+                .flatMap(fileMetadata -> jsonMetadataConverter.tryConvertToEntity(fileMetadata.getFileContent()))
+                .map(this::getExtensionsValueMapFromJson);
     }
 
     private Map<String, Object> getExtensionsValueMapFromJson(Map<String, Object> extensions) {
@@ -347,43 +391,43 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     private void processZipEntryFile(ProjectHolder projectHolder,
-                                     FileContent fileContent,
+                                     ProjectZipEntry zipEntry,
                                      ModelType modelType) {
-        String modelName = removeExtension(fileContent.getFilename(), JSON);
-        if (isProjectExtension(modelName, modelType, fileContent)) {
+        String modelName = removeExtension(zipEntry.getFileName(), JSON);
+        if (isProjectExtension(modelName, modelType, zipEntry)) {
             modelName = StringUtils.removeEnd(modelName, modelType.getExtensionsFileSuffix());
-            projectHolder.addModelExtension(modelName, modelType, fileContent);
-        } else if (isProcessContent(modelName, modelType, fileContent)) {
+            projectHolder.addModelExtension(modelName, modelType, zipEntry::getFileContent);
+        } else if (isProcessContent(modelName, modelType, zipEntry)) {
             modelService.contentFilenameToModelName(modelName, modelType)
-                    .ifPresent(fixedModelName -> projectHolder.addProcess(fixedModelName, modelType, fileContent));
-        } else if (isModelContent(modelName, modelType, fileContent)) {
+                    .ifPresent(fixedModelName -> projectHolder.addProcess(fixedModelName, modelType, zipEntry::getFileContent));
+        } else if (isModelContent(modelName, modelType, zipEntry)) {
             modelService.contentFilenameToModelName(modelName, modelType)
-                    .ifPresent(fixedModelName -> projectHolder.addModelContent(fixedModelName, modelType, fileContent));
+                    .ifPresent(fixedModelName -> projectHolder.addModelContent(fixedModelName, modelType, zipEntry::getFileContent));
         } else {
             if (modelName.endsWith(modelType.getExtensionsFileSuffix())) {
                 modelName = StringUtils.removeEnd(modelName, modelType.getExtensionsFileSuffix());
             }
-            projectHolder.addModelJsonFile(modelName, modelType, fileContent);
+            projectHolder.addModelJsonFile(modelName, modelType, zipEntry::getFileContent);
         }
     }
 
     private boolean isProjectExtension(String modelName,
                                        ModelType modelType,
-                                       FileContent fileContent) {
-        return fileContent.isJson() && (modelName.endsWith(modelType.getExtensionsFileSuffix()));
+                                       ProjectZipEntry zipEntry) {
+        return zipEntry.isJson() && (modelName.endsWith(modelType.getExtensionsFileSuffix()));
     }
 
     private boolean isProcessContent(String modelName,
                                      ModelType modelType,
-                                     FileContent fileContent) {
-        return !fileContent.isJson() || (!modelName.endsWith(modelType.getExtensionsFileSuffix())
+                                     ProjectZipEntry zipEntry) {
+        return !zipEntry.isJson() || (!modelName.endsWith(modelType.getExtensionsFileSuffix())
                 && modelTypeService.isProcessContnent(modelType));
     }
 
     private boolean isModelContent(String modelName,
                                    ModelType modelType,
-                                   FileContent fileContent) {
-        return !fileContent.isJson() || (!modelName.endsWith(modelType.getExtensionsFileSuffix())
+                                   ProjectZipEntry zipEntry) {
+        return !zipEntry.isJson() || (!modelName.endsWith(modelType.getExtensionsFileSuffix())
                 && modelTypeService.isContentXML(modelType));
     }
 
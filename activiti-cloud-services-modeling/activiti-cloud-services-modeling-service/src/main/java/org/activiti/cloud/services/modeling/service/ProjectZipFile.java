@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.service;
+
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.getContentTypeByPath;
+import static org.activiti.cloud.services.common.util.ContentTypeUtils.isJsonContentType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.activiti.cloud.modeling.core.error.ImportProjectException;
+import org.activiti.cloud.services.common.file.FileContent;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Project zip file spooled to a temporary file, whose entries are read on demand
+ */
+public class ProjectZipFile implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path path;
+
+    private final ZipFile zipFile;
+
+    private final long maxUncompressedSize;
+
+    private final AtomicLong uncompressedSize = new AtomicLong();
+
+    ProjectZipFile(Path path,
+                   long maxUncompressedSize) throws IOException {
+        this.path = path;
+        this.zipFile = new ZipFile(path.toFile());
+        this.maxUncompressedSize = maxUncompressedSize;
+    }
+
+    /**
+     * Get the file entries of the zip, without reading their content.
+     * @return the file entries
+     * @throws ImportProjectException if the declared uncompressed size of the entries exceeds the allowed size
+     */
+    public List<ProjectZipEntry> getEntries() {
+        List<ProjectZipEntry> entries = Collections.list(zipFile.entries())
+                .stream()
+                .filter(zipEntry -> !zipEntry.isDirectory())
+                .map(ProjectZipEntry::new)
+                .collect(Collectors.toList());
+
+        long declaredSize = entries.stream()
+                .mapToLong(entry -> Math.max(entry.zipEntry.getSize(),
+                                             0))
+                .sum();
+        if (declaredSize > maxUncompressedSize) {
+            throw exceededSizeException();
+        }
+        return entries;
+    }
+
+    private ImportProjectException exceededSizeException() {
+        return new ImportProjectException("Uncompressed size of the project to import exceeds the maximum allowed size of " +
+                                                  maxUncompressedSize + " bytes");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            zipFile.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Handle of a zip file entry, reading the entry content only when requested
+     */
+    public class ProjectZipEntry {
+
+        private final ZipEntry zipEntry;
+
+        private final String[] pathElements;
+
+        private long accountedSize;
+
+        private ProjectZipEntry(ZipEntry zipEntry) {
+            this.zipEntry = zipEntry;
+            this.pathElements = StringUtils.split(zipEntry.getName(),
+                                                  '/');
+        }
+
+        public String getFileName() {
+            return pathElements.length > 0 ? pathElements[pathElements.length - 1] : zipEntry.getName();
+        }
+
+        public Optional<String> getFolderName() {
+            return pathElements.length > 1 ? Optional.of(pathElements[0]) : Optional.empty();
+        }
+
+        public Optional<String> getContentType() {
+            return getContentTypeByPath(getFileName());
+        }
+
+        public boolean isJson() {
+            return getContentType().map(contentType -> isJsonContentType(contentType)).orElse(false);
+        }
+
+        /**
+         * Read the content of the entry. Reading the same entry again does not count again against the allowed size.
+         * @return the file content of the entry
+         * @throws ImportProjectException if the uncompressed content read exceeds the allowed size
+         */
+        public FileContent getFileContent() {
+            return new FileContent(getFileName(),
+                                   getContentType().orElse(null),
+                                   readContent());
+        }
+
+        private byte[] readContent() {
+            try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(zipEntry.getSize() > 0 ? (int) Math.min(zipEntry.getSize(),
+                                                                                                                       BUFFER_SIZE) : BUFFER_SIZE);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long entryReadSize = 0;
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    entryReadSize += read;
+                    accountReadSize(entryReadSize);
+                    outputStream.write(buffer,
+                                       0,
+                                       read);
+                }
+                return outputStream.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private synchronized void accountReadSize(long entryReadSize) {
+            if (entryReadSize > accountedSize) {
+                long newlyReadSize = entryReadSize - accountedSize;
+                accountedSize = entryReadSize;
+                if (uncompressedSize.addAndGet(newlyReadSize) > maxUncompressedSize) {
+                    throw exceededSizeException();
+                }
+            }
+        }
+    }
+}
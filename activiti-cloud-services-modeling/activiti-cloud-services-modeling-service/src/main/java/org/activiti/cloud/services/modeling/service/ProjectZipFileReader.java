@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipException;
+
+import org.activiti.cloud.modeling.core.error.ImportProjectException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Reader of the zip files to import as projects
+ */
+public class ProjectZipFileReader {
+
+    private final long maxUncompressedSize;
+
+    public ProjectZipFileReader(long maxUncompressedSize) {
+        this.maxUncompressedSize = maxUncompressedSize;
+    }
+
+    /**
+     * Spool the given multipart file to a temporary file and open it as a zip file.
+     * @param file the multipart zip file
+     * @return the project zip file, to be closed once the import is done
+     * @throws IOException in case of multipart file input stream access error
+     */
+    public ProjectZipFile read(MultipartFile file) throws IOException {
+        Path path = Files.createTempFile("project-import",
+                                         ".zip");
+        try {
+            try (InputStream inputStream = file.getInputStream()) {
+                Files.copy(inputStream,
+                           path,
+                           StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new ProjectZipFile(path,
+                                      maxUncompressedSize);
+        } catch (ZipException e) {
+            Files.deleteIfExists(path);
+            throw new ImportProjectException("No valid project entry found to import: " + file.getOriginalFilename());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+}
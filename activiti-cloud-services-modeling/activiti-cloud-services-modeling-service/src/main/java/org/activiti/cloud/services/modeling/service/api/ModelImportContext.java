@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.service.api;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State of a single import operation: the identifiers found in the imported content
+ * mapped to the identifiers of the created models.
+ */
+public class ModelImportContext {
+
+    private final Map<String, String> modelIdentifiers = new ConcurrentHashMap<>();
+
+    public void addModelIdentifier(String importedId,
+                                   String modelId) {
+        modelIdentifiers.put(importedId,
+                             modelId);
+    }
+
+    public Map<String, String> getModelIdentifiers() {
+        return Collections.unmodifiableMap(modelIdentifiers);
+    }
+
+    public boolean isEmpty() {
+        return modelIdentifiers.isEmpty();
+    }
+}
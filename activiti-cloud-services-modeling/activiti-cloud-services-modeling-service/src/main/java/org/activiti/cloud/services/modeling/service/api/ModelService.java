@@ -1,16 +1,26 @@
 package org.activiti.cloud.services.modeling.service.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.activiti.bpmn.model.Process;
 import org.activiti.bpmn.model.Task;
 import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.ModelContent;
+import org.activiti.cloud.modeling.api.ModelSummary;
 import org.activiti.cloud.modeling.api.ModelType;
+import org.activiti.cloud.modeling.api.ModelVersion;
 import org.activiti.cloud.modeling.api.Project;
 import org.activiti.cloud.modeling.api.ValidationContext;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.services.common.file.FileContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,12 +31,63 @@ import org.springframework.lang.NonNull;
  */
 public interface ModelService {
 
+    /**
+     * Get all the models of the available types of a project together with their latest version, in a single query.
+     * @param project the project
+     * @return the models of the project, grouped by model type
+     */
     List<Model> getAllModels(Project project);
 
+    /**
+     * Stream all the models of a project together with their latest version, reading them one at a time.
+     * The stream must be consumed within the current transaction and closed,
+     * and the models must not be kept once the next one is read.
+     * @param project the project
+     * @return the stream of the models of the project, sorted by type and name
+     */
+    Stream<Model> streamAllModels(Project project);
+
     Page<Model> getModels(Project project,
                           ModelType modelType,
                           Pageable pageable);
 
+    /**
+     * Get the summaries of the models of a project, without their content nor their extensions.
+     * @param project the project
+     * @param modelType the type of the models
+     * @param pageable the page request
+     * @return the page of model summaries
+     */
+    Page<ModelSummary> getModelSummaries(Project project,
+                                         ModelType modelType,
+                                         Pageable pageable);
+
+    /**
+     * Get the summaries of the models of a project following the given cursor, sorted by name and id.
+     * @param project the project
+     * @param modelType the type of the models
+     * @param cursor the cursor to start after
+     * @param size the maximum number of models to return
+     * @return the model summaries following the cursor
+     */
+    List<ModelSummary> getModelSummariesAfter(Project project,
+                                              ModelType modelType,
+                                              KeysetCursor cursor,
+                                              int size);
+
+    /**
+     * Get the summaries of the models of a project preceding the given cursor, sorted by name and id.
+     * @param project the project
+     * @param modelType the type of the models
+     * @param cursor the cursor to end before
+     * @param size the maximum number of models to return
+     * @return the model summaries preceding the cursor
+     */
+    List<ModelSummary> getModelSummariesBefore(Project project,
+                                               ModelType modelType,
+                                               KeysetCursor cursor,
+                                               int size);
+
     Model buildModel(String type,
                      String name);
 
@@ -38,12 +99,16 @@ public interface ModelService {
 
     void deleteModel(Model model);
 
+    /**
+     * Delete all the models of a project, without loading them.
+     * @param project the project of the models to delete
+     */
+    void deleteAllModels(Project project);
+
     Optional<Model> findModelById(String modelId);
 
     Optional<FileContent> getModelExtensionsFileContent(Model model);
 
-    void cleanModelIdList();
-
     Optional<FileContent> getModelDiagramFile(String modelId);
 
     String getExtensionsFilename(Model model);
@@ -52,11 +117,75 @@ public interface ModelService {
 
     FileContent exportModel(Model model);
 
+    /**
+     * Write the content of a model to an output stream, without copying it into a file content.
+     * @param model the model
+     * @param outputStream the stream to write to, left open
+     * @throws IOException in case of stream writing error
+     */
+    void writeModelContent(Model model,
+                           OutputStream outputStream) throws IOException;
+
+    /**
+     * Write the export of a model to an output stream, without copying it into a file content.
+     * @param model the model
+     * @param outputStream the stream to write to, left open
+     * @throws IOException in case of stream writing error
+     */
+    void exportModel(Model model,
+                     OutputStream outputStream) throws IOException;
+
+    String getModelContentFilename(Model model);
+
+    /**
+     * Get the versions of a model, latest first, without their content.
+     * @param model the model
+     * @param beforeVersionSequence the version sequence to get the older versions of, or null to start from the latest version
+     * @param size the maximum number of versions to get
+     * @return the model versions
+     */
+    List<ModelVersion> getModelVersions(Model model,
+                                        Long beforeVersionSequence,
+                                        int size);
+
+    Optional<ModelVersion> findModelVersion(Model model,
+                                            String version);
+
+    /**
+     * Write the content of a model version to an output stream.
+     * @param modelVersion the model version
+     * @param outputStream the stream to write to, left open
+     * @throws IOException in case of stream writing error
+     */
+    void writeModelVersionContent(ModelVersion modelVersion,
+                                  OutputStream outputStream) throws IOException;
+
+    /**
+     * Update the content of a model from a stream, read once into the content to convert, validate and store.
+     * @param modelToBeUpdate the model to update
+     * @param filename the name of the uploaded file
+     * @param contentType the content type of the uploaded file
+     * @param content the content stream, left open
+     * @param contentLength the length of the content, or -1 if unknown
+     * @return the updated model
+     * @throws IOException in case of stream reading error
+     */
+    Model updateModelContent(Model modelToBeUpdate,
+                             String filename,
+                             String contentType,
+                             InputStream content,
+                             long contentLength) throws IOException;
+
     Model updateModelContent(Model modelToBeUpdate,
                              FileContent fileContent);
 
+    Model updateModelContent(Model modelToBeUpdate,
+                             FileContent fileContent,
+                             ModelImportContext importContext);
+
     FileContent overrideModelContentId(Model model,
-                                       FileContent fileContent);
+                                       FileContent fileContent,
+                                       ModelImportContext importContext);
 
     Optional<ModelContent> createModelContentFromModel(Model model,
                                                        FileContent fileContent);
@@ -65,18 +194,50 @@ public interface ModelService {
                             ModelType modelType,
                             FileContent fileContent);
 
+    Model importSingleModel(Project project,
+                            ModelType modelType,
+                            FileContent fileContent,
+                            ModelImportContext importContext);
+
     Model importModel(Project project,
                       ModelType modelType,
                       FileContent fileContent);
 
+    Model importModel(Project project,
+                      ModelType modelType,
+                      FileContent fileContent,
+                      ModelImportContext importContext);
+
+    /**
+     * Import the models of a project by bounded chunks, storing each model once with its final content and extensions.
+     * @param project the project of the models
+     * @param modelFiles the model files to import, by model type
+     * @param importContext the import context collecting the identifiers of the imported models
+     * @param importedExtensions the function giving the imported extensions of a model, if any
+     */
+    void importModels(Project project,
+                      Map<ModelType, List<Supplier<FileContent>>> modelFiles,
+                      ModelImportContext importContext,
+                      Function<Model, Optional<Map<String, Object>>> importedExtensions);
+
     Model importModelFromContent(Project project,
                                  ModelType modelType,
-                                 FileContent fileContent);
+                                 FileContent fileContent,
+                                 ModelImportContext importContext);
 
     <T extends Task> List<T> getTasksBy(Project project,
                                         ModelType processModelType,
                                         @NonNull Class<T> clazz);
 
+    /**
+     * Get the tasks of the given type defined in a single process model.
+     * @param model the model to look into
+     * @param clazz the type of the tasks
+     * @return the tasks found, or an empty list if the model is not a process with content
+     */
+    <T extends Task> List<T> getTasksBy(Model model,
+                                        @NonNull Class<T> clazz);
+
     List<Process> getProcessesBy(Project project, ModelType type);
 
     Model convertContentToModel(ModelType modelType,
@@ -1,9 +1,12 @@
 package org.activiti.cloud.services.modeling.service.api;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Optional;
 
 import org.activiti.cloud.modeling.api.Project;
+import org.activiti.cloud.modeling.repository.KeysetCursor;
 import org.activiti.cloud.services.common.file.FileContent;
 import org.activiti.cloud.services.modeling.service.api.ModelService.ProjectAccessControl;
 import org.springframework.data.domain.Page;
@@ -18,6 +21,28 @@ public interface ProjectService {
     Page<Project> getProjects(Pageable pageable,
                               String name);
 
+    /**
+     * Get the projects following the given cursor, sorted by name and id.
+     * @param name the name to filter by
+     * @param cursor the cursor to start after
+     * @param size the maximum number of projects to return
+     * @return the projects following the cursor
+     */
+    List<Project> getProjectsAfter(String name,
+                                   KeysetCursor cursor,
+                                   int size);
+
+    /**
+     * Get the projects preceding the given cursor, sorted by name and id.
+     * @param name the name to filter by
+     * @param cursor the cursor to end before
+     * @param size the maximum number of projects to return
+     * @return the projects preceding the cursor
+     */
+    List<Project> getProjectsBefore(String name,
+                                    KeysetCursor cursor,
+                                    int size);
+
     Project createProject(Project project);
 
     Project updateProject(Project projectToUpdate,
@@ -29,6 +54,11 @@ public interface ProjectService {
 
     FileContent exportProject(Project project) throws IOException;
 
+    void exportProject(Project project,
+                       OutputStream outputStream) throws IOException;
+
+    String getExportFilename(Project project);
+
     ProjectAccessControl getProjectAccessControl(Project project);
 
     Project importProject(MultipartFile file, @Nullable String name) throws IOException;
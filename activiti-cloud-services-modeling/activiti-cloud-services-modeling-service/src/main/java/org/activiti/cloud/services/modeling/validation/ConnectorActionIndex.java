@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation;
+import static org.springframework.util.StringUtils.isEmpty;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.activiti.cloud.modeling.api.process.ServiceTaskActionType;
+import org.activiti.cloud.services.modeling.converter.ConnectorActionParameter;
+import org.activiti.cloud.services.modeling.converter.ConnectorModelFeature;
+
+import static org.activiti.cloud.modeling.api.process.ServiceTaskActionType.INPUTS;
+
+/**
+ * Index of the connector actions available in a project, by implementation key
+ * (the connector name followed by the action name), with their parameters indexed by name.
+ */
+public class ConnectorActionIndex {
+
+    private final Map<String, IndexedConnectorAction> actions = new HashMap<>();
+
+    public void addActions(String connectorName,
+                           Map<String, ConnectorModelFeature> connectorActions) {
+        Optional.ofNullable(connectorActions)
+                .map(Map::values)
+                .ifPresent(values -> values.forEach(action -> actions.put(getImplementationKey(connectorName,
+                                                                                               action),
+                                                                          new IndexedConnectorAction(action))));
+    }
+
+    public boolean containsImplementation(String implementation) {
+        return actions.containsKey(implementation);
+    }
+
+    public Set<String> getImplementations() {
+        return Collections.unmodifiableSet(actions.keySet());
+    }
+
+    public Optional<ConnectorModelFeature> findAction(String implementation) {
+        return Optional.ofNullable(actions.get(implementation))
+                .map(IndexedConnectorAction::getAction);
+    }
+
+    /**
+     * Check if the action of the given implementation has a parameter with the given name.
+     * @param implementation the implementation key of the action
+     * @param actionType the type of parameters to check: inputs or outputs
+     * @param parameterName the parameter name
+     * @return true if the action is found and has the parameter, false otherwise
+     */
+    public boolean hasParameter(String implementation,
+                                ServiceTaskActionType actionType,
+                                Object parameterName) {
+        return Optional.ofNullable(actions.get(implementation))
+                .map(action -> actionType == INPUTS ? action.inputs : action.outputs)
+                .map(parameters -> parameters.containsKey(parameterName))
+                .orElse(false);
+    }
+
+    public static String getImplementationKey(String connectorName,
+                                              ConnectorModelFeature action) {
+        return isEmpty(action) && isEmpty(action.getName()) ?
+                connectorName :
+                String.join(".",
+                            connectorName,
+                            action.getName());
+    }
+
+    private static class IndexedConnectorAction {
+
+        private final ConnectorModelFeature action;
+
+        private final Map<String, ConnectorActionParameter> inputs;
+
+        private final Map<String, ConnectorActionParameter> outputs;
+
+        private IndexedConnectorAction(ConnectorModelFeature action) {
+            this.action = action;
+            this.inputs = indexByName(action.getInputs());
+            this.outputs = indexByName(action.getOutputs());
+        }
+
+        private ConnectorModelFeature getAction() {
+            return action;
+        }
+
+        private static Map<String, ConnectorActionParameter> indexByName(ConnectorActionParameter[] parameters) {
+            return Optional.ofNullable(parameters)
+                    .map(Arrays::stream)
+                    .map(stream -> stream
+                            .filter(Objects::nonNull)
+                            .filter(parameter -> parameter.getName() != null)
+                            .collect(Collectors.toMap(ConnectorActionParameter::getName,
+                                                      Function.identity(),
+                                                      (first, second) -> first)))
+                    .orElse(Collections.emptyMap());
+        }
+    }
+}
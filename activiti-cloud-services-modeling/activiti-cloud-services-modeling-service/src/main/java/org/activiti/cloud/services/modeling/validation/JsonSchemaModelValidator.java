@@ -36,6 +36,7 @@ import org.json.JSONObject;
 import org.json.JSONTokener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * JSON Schema based abstract implementation for {@link ModelValidator}
@@ -44,19 +45,26 @@ public abstract class JsonSchemaModelValidator implements ModelValidator {
 
     private final Logger log = LoggerFactory.getLogger(JsonSchemaModelValidator.class);
 
+    @Autowired(required = false)
+    private JsonSchemaRegistry jsonSchemaRegistry = new JsonSchemaRegistry();
+
     protected abstract SchemaLoader schemaLoader();
 
+    protected Schema schema() {
+        return jsonSchemaRegistry.getSchema(schemaLoader());
+    }
+
     @Override
     public void validate(byte[] bytes,
                          ValidationContext validationContext) {
         JSONObject processExtensionJson = null;
         try {
-            log.debug("Validating json model content: " + new String(bytes));
-            processExtensionJson = new JSONObject(new JSONTokener(new String(bytes)));
-            schemaLoader()
-                    .load()
-                    .build()
-                    .validate(processExtensionJson);
+            String json = new String(bytes);
+            if (log.isDebugEnabled()) {
+                log.debug("Validating json model content: " + json);
+            }
+            processExtensionJson = new JSONObject(new JSONTokener(json));
+            schema().validate(processExtensionJson);
         } catch (JSONException jsonException) {
             log.error("Syntactic model JSON validation errors encountered",
                       jsonException);
@@ -17,6 +17,7 @@ package org.activiti.cloud.services.modeling.validation;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 import org.everit.json.schema.loader.SchemaClient;
 import org.everit.json.schema.loader.SchemaLoader;
@@ -54,6 +55,13 @@ public class JsonSchemaModelValidatorConfiguration {
         return buildSchemaLoaderFromClasspath(modelExtensionsSchema);
     }
 
+    @Bean
+    public JsonSchemaRegistry jsonSchemaRegistry(List<SchemaLoader> schemaLoaders) {
+        JsonSchemaRegistry jsonSchemaRegistry = new JsonSchemaRegistry();
+        schemaLoaders.forEach(jsonSchemaRegistry::register);
+        return jsonSchemaRegistry;
+    }
+
     private SchemaLoader buildSchemaLoaderFromClasspath(String schemaFileName) throws IOException {
         try (InputStream schemaInputStream = new ClassPathResource(schemaFileName).getInputStream()) {
             JSONObject jsonSchema = new JSONObject(new JSONTokener(schemaInputStream));
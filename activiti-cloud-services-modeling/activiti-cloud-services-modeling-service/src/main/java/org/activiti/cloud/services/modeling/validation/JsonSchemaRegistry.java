@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+
+/**
+ * Registry of the JSON schemas built from the schema loaders, so that every schema is built only once.
+ */
+public class JsonSchemaRegistry {
+
+    private final Map<SchemaLoader, Schema> schemas = new ConcurrentHashMap<>();
+
+    public JsonSchemaRegistry register(SchemaLoader schemaLoader) {
+        getSchema(schemaLoader);
+        return this;
+    }
+
+    public Schema getSchema(SchemaLoader schemaLoader) {
+        return schemas.computeIfAbsent(schemaLoader,
+                                       loader -> loader.load().build());
+    }
+}
@@ -88,10 +88,20 @@ public class ProcessModelValidatorConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public TaskMappingsServiceTaskImplementationValidator taskMappingsServiceTaskImplementationValidator(ConnectorModelType connectorModelType,
-                                                                                                         ConnectorModelContentConverter connectorModelContentConverter) {
-        return new TaskMappingsServiceTaskImplementationValidator(connectorModelType,
-                                                                  connectorModelContentConverter);
+    public ProjectValidationArtifacts projectValidationArtifacts(ConnectorModelType connectorModelType,
+                                                                 ConnectorModelContentConverter connectorModelContentConverter,
+                                                                 ProcessModelType processModelType,
+                                                                 ProcessModelContentConverter processModelContentConverter) {
+        return new ProjectValidationArtifacts(connectorModelType,
+                                              connectorModelContentConverter,
+                                              processModelType,
+                                              processModelContentConverter);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskMappingsServiceTaskImplementationValidator taskMappingsServiceTaskImplementationValidator(ProjectValidationArtifacts projectValidationArtifacts) {
+        return new TaskMappingsServiceTaskImplementationValidator(projectValidationArtifacts);
     }
 
     @Bean
@@ -116,10 +126,10 @@ public class ProcessModelValidatorConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public BpmnModelCallActivityValidator bpmnModelCallActivityValidator(ProcessModelType processModelType,
-                                                                         ProcessModelContentConverter processModelContentConverter) {
-        return new BpmnModelCallActivityValidator(processModelType,
-                                                  processModelContentConverter);
+    public BpmnModelCallActivityValidator bpmnModelCallActivityValidator(ProcessModelContentConverter processModelContentConverter,
+                                                                         ProjectValidationArtifacts projectValidationArtifacts) {
+        return new BpmnModelCallActivityValidator(processModelContentConverter,
+                                                  projectValidationArtifacts);
 
     }
 
@@ -137,10 +147,8 @@ public class ProcessModelValidatorConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public BpmnModelServiceTaskImplementationValidator bpmnModelServiceTaskImplementationValidator(ConnectorModelType connectorModelType,
-                                                                                                   ConnectorModelContentConverter connectorModelContentConverter) {
-        return new BpmnModelServiceTaskImplementationValidator(connectorModelType,
-                                                               connectorModelContentConverter);
+    public BpmnModelServiceTaskImplementationValidator bpmnModelServiceTaskImplementationValidator(ProjectValidationArtifacts projectValidationArtifacts) {
+        return new BpmnModelServiceTaskImplementationValidator(projectValidationArtifacts);
     }
 
     @Bean
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLStreamException;
+
+import org.activiti.bpmn.model.Process;
+import org.activiti.cloud.modeling.api.ConnectorModelType;
+import org.activiti.cloud.modeling.api.Model;
+import org.activiti.cloud.modeling.api.ProcessModelType;
+import org.activiti.cloud.modeling.api.ValidationContext;
+import org.activiti.cloud.services.modeling.converter.ConnectorModelContent;
+import org.activiti.cloud.services.modeling.converter.ConnectorModelContentConverter;
+import org.activiti.cloud.services.modeling.converter.ProcessModelContentConverter;
+
+/**
+ * Data derived from the models available in a {@link ValidationContext},
+ * computed once per validation context and shared by all the validators.
+ */
+public class ProjectValidationArtifacts {
+
+    private static final String CONNECTOR_MODEL_CONTENTS = "connectorModelContents";
+
+    private static final String CONNECTOR_ACTION_INDEX_BY_MODEL_NAME = "connectorActionIndexByModelName";
+
+    private static final String CONNECTOR_ACTION_INDEX_BY_CONNECTOR_NAME = "connectorActionIndexByConnectorName";
+
+    private static final String PROCESS_IDS = "processIds";
+
+    private static final String XML_CONTENT_NOT_PRESENT = "Xml content for the model is not present";
+
+    private static final String XML_NOT_PARSABLE = "Xml content for the model is not valid.";
+
+    private final ConnectorModelType connectorModelType;
+
+    private final ConnectorModelContentConverter connectorModelContentConverter;
+
+    private final ProcessModelType processModelType;
+
+    private final ProcessModelContentConverter processModelContentConverter;
+
+    public ProjectValidationArtifacts(ConnectorModelType connectorModelType,
+                                      ConnectorModelContentConverter connectorModelContentConverter,
+                                      ProcessModelType processModelType,
+                                      ProcessModelContentConverter processModelContentConverter) {
+        this.connectorModelType = connectorModelType;
+        this.connectorModelContentConverter = connectorModelContentConverter;
+        this.processModelType = processModelType;
+        this.processModelContentConverter = processModelContentConverter;
+    }
+
+    /**
+     * Get the ids of the processes defined in the available process models,
+     * which are the possible targets of the call activities.
+     * @param validationContext the validation context
+     * @return the process ids
+     */
+    public Set<String> getProcessIds(ValidationContext validationContext) {
+        return validationContext.getOrCompute(PROCESS_IDS,
+                                              () -> validationContext.getAvailableModels(processModelType)
+                                                      .stream()
+                                                      .flatMap(this::retrieveProcessIdsFromModel)
+                                                      .collect(Collectors.collectingAndThen(Collectors.toSet(),
+                                                                                            Collections::unmodifiableSet)));
+    }
+
+    private Stream<String> retrieveProcessIdsFromModel(Model model) {
+        try {
+            return processModelContentConverter.getReadOnlyBpmnModel(model.getContent())
+                    .getProcesses()
+                    .stream()
+                    .map(Process::getId);
+        } catch (IOException ioError) {
+            throw new RuntimeException(XML_CONTENT_NOT_PRESENT,
+                                       ioError);
+        } catch (XMLStreamException xmlParsingError) {
+            throw new RuntimeException(XML_NOT_PARSABLE,
+                                       xmlParsingError);
+        }
+    }
+
+    /**
+     * Get the parsed contents of the available connector models.
+     * @param validationContext the validation context
+     * @return the connector model contents mapped by connector model name
+     */
+    public Map<String, ConnectorModelContent> getConnectorModelContents(ValidationContext validationContext) {
+        return validationContext.getOrCompute(CONNECTOR_MODEL_CONTENTS,
+                                              () -> parseConnectorModelContents(validationContext));
+    }
+
+    /**
+     * Get the index of the actions of the available connector models,
+     * by connector model name followed by the action name.
+     * @param validationContext the validation context
+     * @return the connector action index
+     */
+    public ConnectorActionIndex getConnectorActionIndexByModelName(ValidationContext validationContext) {
+        return validationContext.getOrCompute(CONNECTOR_ACTION_INDEX_BY_MODEL_NAME,
+                                              () -> buildConnectorActionIndex(validationContext,
+                                                                              (connectorModelName, connectorModelContent) -> connectorModelName));
+    }
+
+    /**
+     * Get the index of the actions of the available connector models,
+     * by connector name, as defined in the connector content, followed by the action name.
+     * @param validationContext the validation context
+     * @return the connector action index
+     */
+    public ConnectorActionIndex getConnectorActionIndexByConnectorName(ValidationContext validationContext) {
+        return validationContext.getOrCompute(CONNECTOR_ACTION_INDEX_BY_CONNECTOR_NAME,
+                                              () -> buildConnectorActionIndex(validationContext,
+                                                                              (connectorModelName, connectorModelContent) -> connectorModelContent.getName()));
+    }
+
+    private ConnectorActionIndex buildConnectorActionIndex(ValidationContext validationContext,
+                                                           BiFunction<String, ConnectorModelContent, String> connectorKey) {
+        ConnectorActionIndex connectorActionIndex = new ConnectorActionIndex();
+        getConnectorModelContents(validationContext).forEach((connectorModelName, connectorModelContent) ->
+                connectorActionIndex.addActions(connectorKey.apply(connectorModelName,
+                                                                    connectorModelContent),
+                                                connectorModelContent.getActions()));
+        return connectorActionIndex;
+    }
+
+    private Map<String, ConnectorModelContent> parseConnectorModelContents(ValidationContext validationContext) {
+        Map<String, ConnectorModelContent> connectorModelContents = new LinkedHashMap<>();
+        for (Model model : validationContext.getAvailableModels(connectorModelType)) {
+            Optional.ofNullable(model.getContent())
+                    .flatMap(connectorModelContentConverter::convertToModelContent)
+                    .ifPresent(connectorModelContent -> connectorModelContents.put(model.getName(),
+                                                                                   connectorModelContent));
+        }
+        return Collections.unmodifiableMap(connectorModelContents);
+    }
+}
@@ -17,7 +17,12 @@
 package org.activiti.cloud.services.modeling.validation;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.activiti.cloud.modeling.api.Model;
@@ -25,26 +30,74 @@ import org.activiti.cloud.modeling.api.ModelType;
 import org.activiti.cloud.modeling.api.ValidationContext;
 
 /**
- * Implementation of {@link ValidationContext} in project validation context
+ * Implementation of {@link ValidationContext} in project validation context.
+ * The available models are indexed by type and by id, and the derived data is computed once per context.
  */
 public class ProjectValidationContext implements ValidationContext {
 
     private final List<Model> availableModels;
 
+    private final Map<String, List<Model>> availableModelsByType;
+
+    private final Map<String, Map<String, Model>> availableModelsByTypeAndId;
+
+    private final Map<String, Object> derivedData = new HashMap<>();
+
     public ProjectValidationContext(List<Model> availableModels) {
         this.availableModels = availableModels;
+        this.availableModelsByType = availableModels
+                .stream()
+                .filter(model -> model.getType() != null)
+                .collect(Collectors.groupingBy(Model::getType,
+                                               Collectors.collectingAndThen(Collectors.toList(),
+                                                                            Collections::unmodifiableList)));
+        this.availableModelsByTypeAndId = new HashMap<>();
+        availableModelsByType.forEach((type, models) -> availableModelsByTypeAndId.put(type,
+                                                                                        indexById(models)));
     }
 
     public ProjectValidationContext(Model... availableModels) {
-        this.availableModels = Arrays.asList(availableModels);
+        this(Arrays.asList(availableModels));
+    }
+
+    private Map<String, Model> indexById(List<Model> models) {
+        Map<String, Model> modelsById = new HashMap<>();
+        models.stream()
+                .filter(model -> model.getId() != null)
+                .forEach(model -> modelsById.putIfAbsent(model.getId(),
+                                                         model));
+        return modelsById;
     }
 
     @Override
     public List<Model> getAvailableModels(ModelType modelType) {
-        return availableModels
-                .stream()
-                .filter(model -> modelType.getName().equals(model.getType()))
-                .collect(Collectors.toList());
+        return availableModelsByType.getOrDefault(modelType.getName(),
+                                                  Collections.emptyList());
+    }
+
+    @Override
+    public Optional<Model> findAvailableModel(ModelType modelType,
+                                              String modelId) {
+        return Optional.ofNullable(availableModelsByTypeAndId.getOrDefault(modelType.getName(),
+                                                                           Collections.emptyMap())
+                                           .get(modelId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(String key,
+                              Supplier<T> supplier) {
+        synchronized (derivedData) {
+            if (derivedData.containsKey(key)) {
+                return (T) derivedData.get(key);
+            }
+        }
+        T data = supplier.get();
+        synchronized (derivedData) {
+            derivedData.putIfAbsent(key,
+                                    data);
+            return (T) derivedData.get(key);
+        }
     }
 
     @Override
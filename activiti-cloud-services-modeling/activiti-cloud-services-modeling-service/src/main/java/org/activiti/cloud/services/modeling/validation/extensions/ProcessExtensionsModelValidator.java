@@ -115,16 +115,13 @@ public class ProcessExtensionsModelValidator extends ExtensionsJsonSchemaValidat
 
     private Optional<Model> findProcessModelInContext(String modelId,
                                                       ValidationContext validationContext) {
-        return validationContext.getAvailableModels(processModelType)
-                .stream()
-                .filter(model -> Objects.equals(model.getId(),
-                                                modelId))
-                .findFirst();
+        return validationContext.findAvailableModel(processModelType,
+                                                    modelId);
     }
 
     private Optional<BpmnProcessModelContent> convertToBpmnModel(byte[] bytes) {
         try {
-            return processModelContentConverter.convertToModelContent(bytes);
+            return processModelContentConverter.convertToSharedModelContent(bytes);
         } catch (ModelingException ex) {
             throw new SyntacticModelValidationException("Cannot convert to BPMN model",
                                                         ex);
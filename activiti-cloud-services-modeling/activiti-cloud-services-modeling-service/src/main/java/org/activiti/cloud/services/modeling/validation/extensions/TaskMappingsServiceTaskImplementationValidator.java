@@ -19,24 +19,18 @@ package org.activiti.cloud.services.modeling.validation.extensions;
 import static java.lang.String.format;
 import static org.activiti.cloud.modeling.api.process.ServiceTaskActionType.INPUTS;
 import static org.activiti.cloud.modeling.api.process.ServiceTaskActionType.OUTPUTS;
-import static org.springframework.util.StringUtils.isEmpty;
 
 import org.activiti.bpmn.model.FlowNode;
 import org.activiti.bpmn.model.ServiceTask;
-import org.activiti.cloud.modeling.api.ConnectorModelType;
-import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.ModelValidationError;
 import org.activiti.cloud.modeling.api.ValidationContext;
 import org.activiti.cloud.modeling.api.process.Constant;
 import org.activiti.cloud.modeling.api.process.ProcessVariableMapping;
 import org.activiti.cloud.modeling.api.process.ServiceTaskActionType;
 import org.activiti.cloud.modeling.api.process.VariableMappingType;
-import org.activiti.cloud.services.modeling.converter.ConnectorActionParameter;
-import org.activiti.cloud.services.modeling.converter.ConnectorModelFeature;
-import org.activiti.cloud.services.modeling.converter.ConnectorModelContentConverter;
+import org.activiti.cloud.services.modeling.validation.ConnectorActionIndex;
+import org.activiti.cloud.services.modeling.validation.ProjectValidationArtifacts;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -52,29 +46,25 @@ public class TaskMappingsServiceTaskImplementationValidator implements TaskMappi
     public static final String UNKNOWN_CONNECTOR_PARAMETER_VALIDATION_ERROR_DESCRIPTION =
             "The extensions for process '%s' contains mappings to task '%s' for an unknown %s connector parameter name '%s'";
 
-    private final ConnectorModelType connectorModelType;
+    private final ProjectValidationArtifacts projectValidationArtifacts;
 
-    private final ConnectorModelContentConverter connectorModelContentConverter;
-
-    public TaskMappingsServiceTaskImplementationValidator(ConnectorModelType connectorModelType,
-                                                          ConnectorModelContentConverter connectorModelContentConverter) {
-        this.connectorModelType = connectorModelType;
-        this.connectorModelContentConverter = connectorModelContentConverter;
+    public TaskMappingsServiceTaskImplementationValidator(ProjectValidationArtifacts projectValidationArtifacts) {
+        this.projectValidationArtifacts = projectValidationArtifacts;
     }
 
     @Override
     public Stream<ModelValidationError> validateTaskMappings(List<TaskMapping> taskMappings,
                                                              Map<String, Constant> taskConstants,
                                                              ValidationContext validationContext) {
-        Map<String, ConnectorModelFeature> availableConnectorActions = getAvailableConnectorActions(validationContext);
+        ConnectorActionIndex connectorActionIndex = projectValidationArtifacts.getConnectorActionIndexByConnectorName(validationContext);
         return taskMappings
                 .stream()
                 .flatMap(taskMapping -> validateTaskMapping(taskMapping,
-                                                            availableConnectorActions));
+                                                            connectorActionIndex));
     }
 
     private Stream<ModelValidationError> validateTaskMapping(TaskMapping taskMapping,
-                                                            Map<String, ConnectorModelFeature> availableConnectorActions) {
+                                                            ConnectorActionIndex connectorActionIndex) {
         return taskMapping
                 .getProcessVariableMappings()
                 .entrySet()
@@ -84,7 +74,7 @@ public class TaskMappingsServiceTaskImplementationValidator implements TaskMappi
                                                                   taskMapping.getAction(),
                                                                   variableMappingEntry.getKey(),
                                                                   variableMappingEntry.getValue(),
-                                                                  availableConnectorActions))
+                                                                  connectorActionIndex))
                 .filter(Optional::isPresent)
                 .map(Optional::get);
     }
@@ -94,30 +84,26 @@ public class TaskMappingsServiceTaskImplementationValidator implements TaskMappi
                                                                 ServiceTaskActionType actionType,
                                                                 String processVariableMappingKey,
                                                                 ProcessVariableMapping processVariableMapping,
-                                                                Map<String, ConnectorModelFeature> availableConnectorActions) {
+                                                                ConnectorActionIndex connectorActionIndex) {
 
         if(actionType == OUTPUTS && processVariableMapping.getType() == VariableMappingType.VALUE) {
             return Optional.<ModelValidationError>empty();
         }else {
             Object connectorParameterName = actionType == INPUTS ? processVariableMappingKey : processVariableMapping.getValue();
             return getTaskImplementation(task)
-                    .map(availableConnectorActions::get)
-                    .flatMap(action -> Optional.ofNullable(actionType == INPUTS ? action.getInputs() : action.getOutputs())
-                            .map(Arrays::stream)
-                            .orElseGet(Stream::empty)
-                            .map(ConnectorActionParameter::getName)
-                            .filter(parameter -> parameter.equals(connectorParameterName))
-                            .findFirst()
-                            .map(parameter -> Optional.<ModelValidationError>empty())
-                            .orElseGet(() -> Optional.of(createModelValidationError(
-                                    format(UNKNOWN_CONNECTOR_PARAMETER_VALIDATION_ERROR_PROBLEM,
-                                           actionType.name().toLowerCase(),
-                                           connectorParameterName),
-                                    format(UNKNOWN_CONNECTOR_PARAMETER_VALIDATION_ERROR_DESCRIPTION,
-                                           processId,
-                                           task.getId(),
-                                           actionType.name().toLowerCase(),
-                                           connectorParameterName)))));
+                    .filter(connectorActionIndex::containsImplementation)
+                    .filter(implementation -> !connectorActionIndex.hasParameter(implementation,
+                                                                                 actionType,
+                                                                                 connectorParameterName))
+                    .map(implementation -> createModelValidationError(
+                            format(UNKNOWN_CONNECTOR_PARAMETER_VALIDATION_ERROR_PROBLEM,
+                                   actionType.name().toLowerCase(),
+                                   connectorParameterName),
+                            format(UNKNOWN_CONNECTOR_PARAMETER_VALIDATION_ERROR_DESCRIPTION,
+                                   processId,
+                                   task.getId(),
+                                   actionType.name().toLowerCase(),
+                                   connectorParameterName)));
         }
     }
 
@@ -127,29 +113,4 @@ public class TaskMappingsServiceTaskImplementationValidator implements TaskMappi
                 .map(ServiceTask.class::cast)
                 .map(ServiceTask::getImplementation);
     }
-
-    private Map<String, ConnectorModelFeature> getAvailableConnectorActions(ValidationContext validationContext) {
-        Map<String, ConnectorModelFeature> availableConnectorActions = new HashMap<>();
-        validationContext.getAvailableModels(connectorModelType)
-                .stream()
-                .map(Model::getContent)
-                .map(connectorModelContentConverter::convertToModelContent)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .forEach(connectorModelContent -> connectorModelContent.getActions().values()
-                        .forEach(action -> availableConnectorActions.put(getImplementationKey(connectorModelContent.getName(),
-                                                                                              action),
-                                                                         action)));
-
-        return availableConnectorActions;
-    }
-
-    private String getImplementationKey(String connectorName,
-                                        ConnectorModelFeature action) {
-        return isEmpty(action) && isEmpty(action.getName()) ?
-                connectorName :
-                String.join(".",
-                            connectorName,
-                            action.getName());
-    }
 }
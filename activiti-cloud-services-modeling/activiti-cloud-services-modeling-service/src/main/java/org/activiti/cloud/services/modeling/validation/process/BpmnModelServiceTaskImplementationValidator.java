@@ -17,21 +17,18 @@
 package org.activiti.cloud.services.modeling.validation.process;
 
 import static java.lang.String.format;
-import static org.springframework.util.StringUtils.isEmpty;
 
 import org.activiti.bpmn.model.BpmnModel;
 import org.activiti.bpmn.model.ServiceTask;
-import org.activiti.cloud.modeling.api.ConnectorModelType;
-import org.activiti.cloud.modeling.api.Model;
 import org.activiti.cloud.modeling.api.ModelValidationError;
 import org.activiti.cloud.modeling.api.ValidationContext;
-import org.activiti.cloud.services.modeling.converter.ConnectorModelFeature;
-import org.activiti.cloud.services.modeling.converter.ConnectorModelContent;
-import org.activiti.cloud.services.modeling.converter.ConnectorModelContentConverter;
+import org.activiti.cloud.services.modeling.validation.ConnectorActionIndex;
+import org.activiti.cloud.services.modeling.validation.ProjectValidationArtifacts;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -43,76 +40,38 @@ public class BpmnModelServiceTaskImplementationValidator implements BpmnModelVal
     public final String INVALID_SERVICE_IMPLEMENTATION_DESCRIPTION = "Invalid service implementation on service '%s'";
     public final String SERVICE_USER_TASK_VALIDATOR_NAME = "BPMN service task validator";
 
-    private final ConnectorModelType connectorModelType;
+    //TODO: hardcoded decision table added -> fix this after implementation for decision table will change
+    private static final Set<String> DEFAULT_IMPLEMENTATIONS = new HashSet<>(Arrays.asList("dmn-connector.EXECUTE_TABLE",
+                                                                                           "script.EXECUTE"));
 
-    private final ConnectorModelContentConverter connectorModelContentConverter;
+    private final ProjectValidationArtifacts projectValidationArtifacts;
 
-    public BpmnModelServiceTaskImplementationValidator(ConnectorModelType connectorModelType,
-                                                       ConnectorModelContentConverter connectorModelContentConverter) {
-        this.connectorModelType = connectorModelType;
-        this.connectorModelContentConverter = connectorModelContentConverter;
+    public BpmnModelServiceTaskImplementationValidator(ProjectValidationArtifacts projectValidationArtifacts) {
+        this.projectValidationArtifacts = projectValidationArtifacts;
     }
 
     @Override
     public Stream<ModelValidationError> validate(BpmnModel bpmnModel,
                                                  ValidationContext validationContext) {
-        List<String> availableImplementations = getAvailableImplementations(validationContext);
-        //TODO: hardcoded decision table added -> fix this after implementation for decision table will change
-        availableImplementations.add("dmn-connector.EXECUTE_TABLE");
-
-        availableImplementations.add("script.EXECUTE");
+        ConnectorActionIndex connectorActionIndex = projectValidationArtifacts.getConnectorActionIndexByModelName(validationContext);
 
         return getTasks(bpmnModel,
                         ServiceTask.class)
                 .filter(serviceTask -> serviceTask.getImplementation() != null)
                 .map(serviceTask -> validateServiceTaskImplementation(serviceTask,
-                                                                      availableImplementations))
+                                                                      connectorActionIndex))
                 .filter(Optional::isPresent)
                 .map(Optional::get);
     }
 
-    private List<String> getAvailableImplementations(ValidationContext validationContext) {
-        return validationContext.getAvailableModels(connectorModelType)
-                .stream()
-                .map(this::concatNameAndActions)
-                .flatMap(Stream::sorted)
-                .collect(Collectors.toList());
-    }
-
-    private Stream<String> concatNameAndActions(Model model) {
-        return extractConnectorModelContent(model).map(connectorModelContent -> connectorModelContent
-                .getActions()
-                .values()
-                .stream()
-                .map(connectorModelAction -> concatNameAndAction(connectorModelAction,
-                                                                 model)))
-                .orElse(Stream.empty());
-    }
-
-    private Optional<ConnectorModelContent> extractConnectorModelContent(Model model) {
-        return Optional.ofNullable(model.getContent())
-                .flatMap(connectorModelContentConverter::convertToModelContent)
-                .filter(connectorModelContent -> connectorModelContent.getActions() != null);
-    }
-
-    private String concatNameAndAction(ConnectorModelFeature connectorModelFeature,
-                                       Model model) {
-        return isEmpty(connectorModelFeature) && isEmpty(connectorModelFeature.getName()) ?
-                model.getName() :
-                model.getName() + "." + connectorModelFeature.getName();
-    }
-
     private Optional<ModelValidationError> validateServiceTaskImplementation(ServiceTask serviceTask,
-                                                                             List<String> availableImplementations) {
-
-        return availableImplementations
-                .stream()
-                .filter(implementation -> implementation.equals(serviceTask.getImplementation()))
-                .findFirst()
-                .map(implementation -> Optional.<ModelValidationError>empty())
-                .orElseGet(() -> Optional.of(createModelValidationError(INVALID_SERVICE_IMPLEMENTATION_PROBLEM,
-                                                                        format(INVALID_SERVICE_IMPLEMENTATION_DESCRIPTION,
-                                                                               serviceTask.getId()),
-                                                                        SERVICE_USER_TASK_VALIDATOR_NAME)));
+                                                                             ConnectorActionIndex connectorActionIndex) {
+        String implementation = serviceTask.getImplementation();
+        return DEFAULT_IMPLEMENTATIONS.contains(implementation) || connectorActionIndex.containsImplementation(implementation) ?
+                Optional.empty() :
+                Optional.of(createModelValidationError(INVALID_SERVICE_IMPLEMENTATION_PROBLEM,
+                                                       format(INVALID_SERVICE_IMPLEMENTATION_DESCRIPTION,
+                                                              serviceTask.getId()),
+                                                       SERVICE_USER_TASK_VALIDATOR_NAME));
     }
 }
@@ -85,7 +85,7 @@ public class ProcessModelValidator implements ModelContentValidator {
 
     private BpmnModel processContentToBpmnModel(byte[] processContent) {
         try {
-            return processModelContentConverter.convertToBpmnModel(processContent);
+            return processModelContentConverter.getReadOnlyBpmnModel(processContent);
         } catch (IOException | XMLStreamException | XMLException ex) {
             Throwable errorCause = Optional.ofNullable(ex.getCause())
                     .filter(XMLStreamException.class::isInstance)
@@ -2,6 +2,7 @@ package org.activiti.cloud.services.modeling.converter;
 
 import java.util.HashMap;
 import java.util.Map;
+import javax.xml.stream.XMLStreamReader;
 
 import org.activiti.bpmn.converter.BpmnXMLConverter;
 import org.activiti.bpmn.model.BpmnModel;
@@ -65,5 +66,72 @@ public class ProcessModelContentConverterTest {
         verify(flowElement).accept(referenceIdOverrider);
     }
 
-}
+    @Test
+    public void should_reuseParsedBpmnModel_when_gettingReadOnlyModelOfSameContentTwice() throws Exception {
+        processModelContentConverter = new ProcessModelContentConverter(processModelType,
+                                                                        bpmnXMLConverter,
+                                                                        new BpmnModelCache(10));
+        given(bpmnXMLConverter.convertToBpmnModel(any(XMLStreamReader.class))).willAnswer(invocation -> bpmnModel("process-id"));
+        byte[] content = "<definitions/>".getBytes();
+
+        BpmnModel bpmnModel = processModelContentConverter.getReadOnlyBpmnModel(content);
+
+        assertThat(processModelContentConverter.getReadOnlyBpmnModel(content.clone())).isSameAs(bpmnModel);
+        verify(bpmnXMLConverter,
+               times(1)).convertToBpmnModel(any(XMLStreamReader.class));
+    }
+
+    @Test
+    public void should_notModifyCachedBpmnModel_when_modifyingSharedModelContent() throws Exception {
+        processModelContentConverter = new ProcessModelContentConverter(processModelType,
+                                                                        bpmnXMLConverter,
+                                                                        new BpmnModelCache(10));
+        given(bpmnXMLConverter.convertToBpmnModel(any(XMLStreamReader.class))).willAnswer(invocation -> bpmnModel("process-id"));
+        byte[] content = "<definitions/>".getBytes();
+        BpmnModel cachedBpmnModel = processModelContentConverter.getReadOnlyBpmnModel(content);
+
+        BpmnProcessModelContent processModelContent = processModelContentConverter.convertToSharedModelContent(content).get();
+        processModelContent.setId("new-process-id");
+
+        assertThat(processModelContent.getId()).isEqualTo("new-process-id");
+        assertThat(cachedBpmnModel.getMainProcess().getId()).isEqualTo("process-id");
+        assertThat(processModelContentConverter.getReadOnlyBpmnModel(content)).isSameAs(cachedBpmnModel);
+    }
+
+    @Test
+    public void should_returnNewBpmnModel_when_convertingContentAlreadyCached() throws Exception {
+        processModelContentConverter = new ProcessModelContentConverter(processModelType,
+                                                                        bpmnXMLConverter,
+                                                                        new BpmnModelCache(10));
+        given(bpmnXMLConverter.convertToBpmnModel(any(XMLStreamReader.class))).willAnswer(invocation -> bpmnModel("process-id"));
+        byte[] content = "<definitions/>".getBytes();
+        BpmnModel cachedBpmnModel = processModelContentConverter.getReadOnlyBpmnModel(content);
+
+        BpmnModel bpmnModel = processModelContentConverter.convertToBpmnModel(content);
+        bpmnModel.getMainProcess().setId("new-process-id");
+
+        assertThat(bpmnModel).isNotSameAs(cachedBpmnModel);
+        assertThat(cachedBpmnModel.getMainProcess().getId()).isEqualTo("process-id");
+    }
 
+    @Test
+    public void should_evictLeastRecentlyUsedBpmnModel_when_cacheIsFull() {
+        BpmnModelCache bpmnModelCache = new BpmnModelCache(1);
+        bpmnModelCache.put(bpmnModelCache.getKey("first".getBytes()),
+                           bpmnModel("first"));
+        bpmnModelCache.put(bpmnModelCache.getKey("second".getBytes()),
+                           bpmnModel("second"));
+
+        assertThat(bpmnModelCache.size()).isEqualTo(1);
+        assertThat(bpmnModelCache.get(bpmnModelCache.getKey("first".getBytes()))).isEmpty();
+        assertThat(bpmnModelCache.get(bpmnModelCache.getKey("second".getBytes()))).isPresent();
+    }
+
+    private BpmnModel bpmnModel(String processId) {
+        Process process = new Process();
+        process.setId(processId);
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        return bpmnModel;
+    }
+}
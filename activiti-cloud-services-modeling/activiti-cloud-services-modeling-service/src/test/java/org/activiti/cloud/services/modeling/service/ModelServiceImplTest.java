@@ -9,6 +9,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
@@ -97,6 +99,40 @@ public class ModelServiceImplTest {
         verify(processTwo, times(1)).getFlowElements();
     }
 
+    @Test
+    public void should_returnTasksOfASingleProcessModel_when_gettingTasksByModel() throws IOException, XMLStreamException {
+        UserTask userTaskOne = new UserTask();
+        Process processOne = initProcess(userTaskOne, flowElementOne);
+
+        when(modelOne.getType()).thenReturn(ProcessModelType.PROCESS);
+        when(modelOne.getContent()).thenReturn("".getBytes());
+        when(processModelContentConverter.convertToBpmnModel(any())).thenReturn(bpmnModelOne);
+        when(bpmnModelOne.getProcesses()).thenReturn(asList(processOne));
+
+        List<UserTask> tasks = modelService.getTasksBy(modelOne, UserTask.class);
+
+        assertThat(tasks).containsExactly(userTaskOne);
+    }
+
+    @Test
+    public void should_returnNoTasks_when_gettingTasksByModelThatIsNotAProcess() {
+        when(modelOne.getType()).thenReturn("CONNECTOR");
+
+        assertThat(modelService.getTasksBy(modelOne, UserTask.class)).isEmpty();
+    }
+
+    @Test
+    public void should_copyContentStream_when_writingModelContent() throws IOException {
+        byte[] content = "model content".getBytes();
+        when(modelRepository.getModelContentStream(modelOne)).thenReturn(new ByteArrayInputStream(content));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        modelService.writeModelContent(modelOne,
+                                       outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(content);
+    }
+
     @Test
     public void should_returnException_when_classTypeIsNotSpecified() {
         ProcessModelType modelType = new ProcessModelType();
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.activiti.cloud.modeling.core.error.ImportProjectException;
+import org.activiti.cloud.services.modeling.service.ProjectZipFile.ProjectZipEntry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.web.multipart.MultipartFile;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectZipFileReaderTest {
+
+    @Mock
+    private MultipartFile file;
+
+    @Test
+    public void should_readEntriesOnDemand_when_readingProjectZipFile() throws IOException {
+        when(file.getInputStream()).thenReturn(zip("processes/process-x.bpmn20.xml",
+                                                   new byte[100]));
+
+        try (ProjectZipFile projectZipFile = new ProjectZipFileReader(1024).read(file)) {
+            assertThat(projectZipFile.getEntries())
+                    .hasSize(1)
+                    .first()
+                    .satisfies(entry -> {
+                        assertThat(entry.getFileName()).isEqualTo("process-x.bpmn20.xml");
+                        assertThat(entry.getFolderName()).hasValue("processes");
+                        assertThat(entry.getFileContent().getFileContent()).hasSize(100);
+                    });
+        }
+    }
+
+    @Test
+    public void should_throwImportProjectException_when_uncompressedSizeExceedsMaximum() throws IOException {
+        when(file.getInputStream()).thenReturn(zip("processes/process-x.bpmn20.xml",
+                                                   new byte[4096]));
+
+        try (ProjectZipFile projectZipFile = new ProjectZipFileReader(1024).read(file)) {
+            assertThatThrownBy(projectZipFile::getEntries)
+                    .isInstanceOf(ImportProjectException.class);
+        }
+    }
+
+    @Test
+    public void should_throwImportProjectException_when_readContentExceedsMaximum() throws IOException {
+        when(file.getInputStream()).thenReturn(understateSizes(zip("processes/process-x.bpmn20.xml",
+                                                                   new byte[4096])));
+
+        try (ProjectZipFile projectZipFile = new ProjectZipFileReader(1024).read(file)) {
+            ProjectZipEntry entry = projectZipFile.getEntries().get(0);
+
+            assertThatThrownBy(entry::getFileContent)
+                    .isInstanceOf(ImportProjectException.class);
+        }
+    }
+
+    @Test
+    public void should_countEntryContentOnce_when_readingEntryAgain() throws IOException {
+        when(file.getInputStream()).thenReturn(zip("processes/process-x.bpmn20.xml",
+                                                   new byte[600]));
+
+        try (ProjectZipFile projectZipFile = new ProjectZipFileReader(1024).read(file)) {
+            ProjectZipEntry entry = projectZipFile.getEntries().get(0);
+            entry.getFileContent();
+
+            assertThat(entry.getFileContent().getFileContent()).hasSize(600);
+        }
+    }
+
+    private ByteArrayInputStream zip(String entryName,
+                                     byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry(entryName));
+            zipOutputStream.write(content);
+            zipOutputStream.closeEntry();
+        }
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    /**
+     * Declare an uncompressed size of 1 byte for every entry in the central directory, as a zip bomb would.
+     */
+    private ByteArrayInputStream understateSizes(ByteArrayInputStream zip) {
+        byte[] content = new byte[zip.available()];
+        zip.read(content,
+                 0,
+                 content.length);
+        for (int i = 0; i < content.length - 28; i++) {
+            if (content[i] == 0x50 && content[i + 1] == 0x4b && content[i + 2] == 0x01 && content[i + 3] == 0x02) {
+                content[i + 24] = 1;
+                content[i + 25] = 0;
+                content[i + 26] = 0;
+                content[i + 27] = 0;
+            }
+        }
+        return new ByteArrayInputStream(content);
+    }
+}
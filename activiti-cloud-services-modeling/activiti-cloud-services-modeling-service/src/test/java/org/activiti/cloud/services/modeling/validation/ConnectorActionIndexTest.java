@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation;
+
+import static org.activiti.cloud.modeling.api.process.ServiceTaskActionType.INPUTS;
+import static org.activiti.cloud.modeling.api.process.ServiceTaskActionType.OUTPUTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.activiti.cloud.modeling.api.ConnectorModelType;
+import org.activiti.cloud.modeling.api.Model;
+import org.activiti.cloud.modeling.api.ValidationContext;
+import org.activiti.cloud.modeling.api.impl.ModelImpl;
+import org.activiti.cloud.services.modeling.converter.ConnectorActionParameter;
+import org.activiti.cloud.services.modeling.converter.ConnectorModelContent;
+import org.activiti.cloud.services.modeling.converter.ConnectorModelContentConverter;
+import org.activiti.cloud.services.modeling.converter.ConnectorModelFeature;
+import org.junit.Test;
+
+public class ConnectorActionIndexTest {
+
+    @Test
+    public void should_indexActionsByConnectorAndActionName_when_addingConnectorActions() {
+        ConnectorActionIndex connectorActionIndex = new ConnectorActionIndex();
+
+        connectorActionIndex.addActions("movies",
+                                        Collections.singletonMap("action-id",
+                                                                 action("getMovieDesc",
+                                                                        "movieName",
+                                                                        "movieDescription")));
+
+        assertThat(connectorActionIndex.getImplementations()).containsExactly("movies.getMovieDesc");
+        assertThat(connectorActionIndex.containsImplementation("movies.getMovieDesc")).isTrue();
+        assertThat(connectorActionIndex.containsImplementation("movies.unknown")).isFalse();
+    }
+
+    @Test
+    public void should_findParametersByName_when_checkingActionParameters() {
+        ConnectorActionIndex connectorActionIndex = new ConnectorActionIndex();
+        connectorActionIndex.addActions("movies",
+                                        Collections.singletonMap("action-id",
+                                                                 action("getMovieDesc",
+                                                                        "movieName",
+                                                                        "movieDescription")));
+
+        assertThat(connectorActionIndex.hasParameter("movies.getMovieDesc",
+                                                     INPUTS,
+                                                     "movieName")).isTrue();
+        assertThat(connectorActionIndex.hasParameter("movies.getMovieDesc",
+                                                     OUTPUTS,
+                                                     "movieDescription")).isTrue();
+        assertThat(connectorActionIndex.hasParameter("movies.getMovieDesc",
+                                                     INPUTS,
+                                                     "movieDescription")).isFalse();
+        assertThat(connectorActionIndex.hasParameter("movies.unknown",
+                                                     INPUTS,
+                                                     "movieName")).isFalse();
+    }
+
+    @Test
+    public void should_indexActionsOfEachConnector_when_modelNameOfOneConnectorIsNameOfAnother() {
+        ConnectorModelContentConverter connectorModelContentConverter = mock(ConnectorModelContentConverter.class);
+        ProjectValidationArtifacts projectValidationArtifacts = new ProjectValidationArtifacts(new ConnectorModelType(),
+                                                                                               connectorModelContentConverter,
+                                                                                               null,
+                                                                                               null);
+        Model moviesModel = connectorModel("movies",
+                                           "films",
+                                           action("getMovieDesc",
+                                                  "movieName",
+                                                  "movieDescription"),
+                                           connectorModelContentConverter);
+        Model filmsModel = connectorModel("films",
+                                          "movies",
+                                          action("getMovieDesc",
+                                                 "filmTitle",
+                                                 "filmSummary"),
+                                          connectorModelContentConverter);
+        ValidationContext validationContext = new ProjectValidationContext(moviesModel,
+                                                                           filmsModel);
+
+        ConnectorActionIndex indexByModelName = projectValidationArtifacts.getConnectorActionIndexByModelName(validationContext);
+        ConnectorActionIndex indexByConnectorName = projectValidationArtifacts.getConnectorActionIndexByConnectorName(validationContext);
+
+        assertThat(indexByModelName.hasParameter("movies.getMovieDesc",
+                                                 INPUTS,
+                                                 "movieName")).isTrue();
+        assertThat(indexByModelName.hasParameter("movies.getMovieDesc",
+                                                 INPUTS,
+                                                 "filmTitle")).isFalse();
+        assertThat(indexByConnectorName.hasParameter("movies.getMovieDesc",
+                                                     INPUTS,
+                                                     "filmTitle")).isTrue();
+        assertThat(indexByConnectorName.hasParameter("movies.getMovieDesc",
+                                                     INPUTS,
+                                                     "movieName")).isFalse();
+    }
+
+    private Model connectorModel(String modelName,
+                                 String connectorName,
+                                 ConnectorModelFeature action,
+                                 ConnectorModelContentConverter connectorModelContentConverter) {
+        byte[] content = modelName.getBytes(StandardCharsets.UTF_8);
+        ConnectorModelContent connectorModelContent = new ConnectorModelContent();
+        connectorModelContent.setName(connectorName);
+        connectorModelContent.setActions(Collections.singletonMap("action-id",
+                                                                  action));
+        given(connectorModelContentConverter.convertToModelContent(content)).willReturn(Optional.of(connectorModelContent));
+
+        ModelImpl model = new ModelImpl();
+        model.setId(modelName);
+        model.setName(modelName);
+        model.setType(ConnectorModelType.NAME);
+        model.setContent(content);
+        return model;
+    }
+
+    private ConnectorModelFeature action(String name,
+                                         String input,
+                                         String output) {
+        ConnectorModelFeature action = new ConnectorModelFeature();
+        action.setName(name);
+        action.setInputs(new ConnectorActionParameter[]{parameter(input)});
+        action.setOutputs(new ConnectorActionParameter[]{parameter(output)});
+        return action;
+    }
+
+    private ConnectorActionParameter parameter(String name) {
+        ConnectorActionParameter parameter = new ConnectorActionParameter();
+        parameter.setName(name);
+        return parameter;
+    }
+}
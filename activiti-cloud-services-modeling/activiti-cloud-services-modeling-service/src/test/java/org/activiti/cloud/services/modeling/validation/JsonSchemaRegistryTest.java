@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonSchemaRegistryTest {
+
+    @Test
+    public void should_buildSchemaOnlyOnce_when_gettingSchemaSeveralTimes() {
+        SchemaLoader schemaLoader = spy(schemaLoader());
+        JsonSchemaRegistry jsonSchemaRegistry = new JsonSchemaRegistry().register(schemaLoader);
+
+        Schema schema = jsonSchemaRegistry.getSchema(schemaLoader);
+
+        assertThat(jsonSchemaRegistry.getSchema(schemaLoader)).isSameAs(schema);
+        verify(schemaLoader,
+               times(1)).load();
+    }
+
+    @Test
+    public void should_buildOneSchemaPerLoader_when_gettingSchemasOfDifferentLoaders() {
+        SchemaLoader firstSchemaLoader = schemaLoader();
+        SchemaLoader secondSchemaLoader = schemaLoader();
+        JsonSchemaRegistry jsonSchemaRegistry = new JsonSchemaRegistry();
+
+        assertThat(jsonSchemaRegistry.getSchema(firstSchemaLoader))
+                .isNotSameAs(jsonSchemaRegistry.getSchema(secondSchemaLoader));
+    }
+
+    private SchemaLoader schemaLoader() {
+        return SchemaLoader
+                .builder()
+                .schemaJson(new JSONObject("{\"type\": \"object\"}"))
+                .draftV7Support()
+                .build();
+    }
+}
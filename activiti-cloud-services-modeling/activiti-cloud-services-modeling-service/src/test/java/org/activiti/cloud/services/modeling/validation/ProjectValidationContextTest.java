@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.activiti.cloud.modeling.api.ConnectorModelType;
+import org.activiti.cloud.modeling.api.ProcessModelType;
+import org.activiti.cloud.modeling.api.impl.ModelImpl;
+import org.junit.Test;
+
+public class ProjectValidationContextTest {
+
+    private final ProcessModelType processModelType = new ProcessModelType();
+
+    private final ConnectorModelType connectorModelType = new ConnectorModelType();
+
+    @Test
+    public void should_returnModelsOfType_when_gettingAvailableModels() {
+        ModelImpl processModel = model("process-id",
+                                       ProcessModelType.PROCESS);
+        ModelImpl connectorModel = model("connector-id",
+                                         ConnectorModelType.NAME);
+        ProjectValidationContext validationContext = new ProjectValidationContext(processModel,
+                                                                                  connectorModel);
+
+        assertThat(validationContext.getAvailableModels(processModelType)).containsExactly(processModel);
+        assertThat(validationContext.getAvailableModels(connectorModelType)).containsExactly(connectorModel);
+    }
+
+    @Test
+    public void should_findModelByTypeAndId_when_findingAvailableModel() {
+        ModelImpl processModel = model("model-id",
+                                       ProcessModelType.PROCESS);
+        ModelImpl connectorModel = model("model-id",
+                                         ConnectorModelType.NAME);
+        ProjectValidationContext validationContext = new ProjectValidationContext(processModel,
+                                                                                  connectorModel);
+
+        assertThat(validationContext.findAvailableModel(processModelType,
+                                                        "model-id")).containsSame(processModel);
+        assertThat(validationContext.findAvailableModel(connectorModelType,
+                                                        "model-id")).containsSame(connectorModel);
+        assertThat(validationContext.findAvailableModel(processModelType,
+                                                        "unknown-id")).isEmpty();
+    }
+
+    @Test
+    public void should_computeDerivedDataOnce_when_gettingItSeveralTimes() {
+        ProjectValidationContext validationContext = new ProjectValidationContext(model("process-id",
+                                                                                        ProcessModelType.PROCESS));
+        AtomicInteger computations = new AtomicInteger();
+
+        validationContext.getOrCompute("data",
+                                       computations::incrementAndGet);
+        Integer data = validationContext.getOrCompute("data",
+                                                      computations::incrementAndGet);
+
+        assertThat(data).isEqualTo(1);
+        assertThat(computations).hasValue(1);
+    }
+
+    private ModelImpl model(String id,
+                           String type) {
+        ModelImpl model = new ModelImpl();
+        model.setId(id);
+        model.setType(type);
+        return model;
+    }
+}
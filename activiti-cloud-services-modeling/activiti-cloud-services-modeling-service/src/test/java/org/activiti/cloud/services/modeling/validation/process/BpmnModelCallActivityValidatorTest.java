@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Alfresco, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.activiti.cloud.services.modeling.validation.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.activiti.bpmn.model.BpmnModel;
+import org.activiti.bpmn.model.CallActivity;
+import org.activiti.bpmn.model.Process;
+import org.activiti.cloud.modeling.api.Model;
+import org.activiti.cloud.modeling.api.ModelValidationError;
+import org.activiti.cloud.modeling.api.ProcessModelType;
+import org.activiti.cloud.modeling.api.ValidationContext;
+import org.activiti.cloud.modeling.api.impl.ModelImpl;
+import org.activiti.cloud.services.modeling.converter.BpmnProcessModelContent;
+import org.activiti.cloud.services.modeling.converter.ProcessModelContentConverter;
+import org.activiti.cloud.services.modeling.validation.ProjectValidationArtifacts;
+import org.activiti.cloud.services.modeling.validation.ProjectValidationContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BpmnModelCallActivityValidatorTest {
+
+    private static final int PROCESSES_COUNT = 50;
+
+    @Mock
+    private ProcessModelContentConverter processModelContentConverter;
+
+    private BpmnModelCallActivityValidator bpmnModelCallActivityValidator;
+
+    @Before
+    public void setUp() {
+        bpmnModelCallActivityValidator = new BpmnModelCallActivityValidator(processModelContentConverter,
+                                                                            new ProjectValidationArtifacts(null,
+                                                                                                           null,
+                                                                                                           new ProcessModelType(),
+                                                                                                           processModelContentConverter));
+        given(processModelContentConverter.convertToModelContent(any(BpmnModel.class)))
+                .willAnswer(invocation -> Optional.of(new BpmnProcessModelContent(invocation.getArgument(0))));
+    }
+
+    @Test
+    public void should_parseEachProcessOnce_when_validatingAllTheProcessesOfAProject() throws Exception {
+        List<Model> processModels = new ArrayList<>();
+        List<BpmnModel> bpmnModels = new ArrayList<>();
+        for (int i = 0; i < PROCESSES_COUNT; i++) {
+            BpmnModel bpmnModel = bpmnModel("id-" + i,
+                                            "process-id-" + ((i + 1) % PROCESSES_COUNT));
+            byte[] content = ("process-" + i).getBytes();
+            given(processModelContentConverter.getReadOnlyBpmnModel(content)).willReturn(bpmnModel);
+            processModels.add(processModel("process-" + i,
+                                           content));
+            bpmnModels.add(bpmnModel);
+        }
+        ValidationContext validationContext = new ProjectValidationContext(processModels);
+
+        List<ModelValidationError> validationErrors = bpmnModels
+                .stream()
+                .flatMap(bpmnModel -> bpmnModelCallActivityValidator.validate(bpmnModel,
+                                                                              validationContext))
+                .collect(Collectors.toList());
+
+        assertThat(validationErrors).isEmpty();
+        verify(processModelContentConverter,
+               times(PROCESSES_COUNT)).getReadOnlyBpmnModel(any(byte[].class));
+    }
+
+    @Test
+    public void should_returnValidationError_when_callActivityReferencesUnknownProcess() throws Exception {
+        byte[] content = "process-main".getBytes();
+        BpmnModel bpmnModel = bpmnModel("id-main",
+                                        "process-id-unknown");
+        given(processModelContentConverter.getReadOnlyBpmnModel(content)).willReturn(bpmnModel);
+        ValidationContext validationContext = new ProjectValidationContext(processModel("process-main",
+                                                                                        content));
+
+        assertThat(bpmnModelCallActivityValidator.validate(bpmnModel,
+                                                           validationContext))
+                .extracting(ModelValidationError::getProblem)
+                .containsExactly("Call activity element must reference a process id present in the current project.");
+    }
+
+    private BpmnModel bpmnModel(String processId,
+                                String calledProcessId) {
+        CallActivity callActivity = new CallActivity();
+        callActivity.setId("call-" + processId);
+        callActivity.setCalledElement(calledProcessId);
+        Process process = new Process();
+        process.setId(processId);
+        process.addFlowElement(callActivity);
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        return bpmnModel;
+    }
+
+    private Model processModel(String name,
+                               byte[] content) {
+        ModelImpl model = new ModelImpl();
+        model.setId(name);
+        model.setName(name);
+        model.setType(ProcessModelType.PROCESS);
+        model.setContent(content);
+        return model;
+    }
+}
@@ -0,0 +1,6 @@
+alter table model_version
+    add column snapshot_version varchar(255);
+alter table model_version
+    add column snapshot_versioned_entity_id varchar(255);
+alter table model_version
+    add column snapshot_distance integer default 0 not null;
@@ -0,0 +1,2 @@
+alter table model_version
+    add column fingerprint varchar(64);
@@ -0,0 +1,4 @@
+alter table model_version
+    add column content_version varchar(255);
+alter table model_version
+    add column content_versioned_entity_id varchar(255);
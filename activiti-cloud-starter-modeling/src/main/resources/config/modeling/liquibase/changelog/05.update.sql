@@ -0,0 +1,2 @@
+alter table model_version
+    add column codec varchar(16);
@@ -0,0 +1,2 @@
+drop table if exists project_models;
+drop table if exists model_versions;
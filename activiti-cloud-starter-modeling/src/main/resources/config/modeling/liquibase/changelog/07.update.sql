@@ -0,0 +1,6 @@
+alter table model_version
+    add column version_sequence bigint;
+update model_version
+    set version_sequence = cast(regexp_replace(version, '^.*\.', '') as bigint);
+create unique index IDX_MODEL_VERSION_SEQUENCE
+    on model_version (versioned_entity_id, version_sequence);
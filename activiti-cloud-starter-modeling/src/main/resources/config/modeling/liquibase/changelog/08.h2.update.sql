@@ -0,0 +1,5 @@
+insert into project_name_gram (project_id, gram)
+select distinct project.id, substring(concat('  ', lower(project.name), ' '), gram_start.x, 3)
+from project, system_range(1, 256) gram_start
+where project.name is not null
+  and gram_start.x <= length(project.name) + 1;
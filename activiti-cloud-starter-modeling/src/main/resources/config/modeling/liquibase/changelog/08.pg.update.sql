@@ -0,0 +1,5 @@
+insert into project_name_gram (project_id, gram)
+select distinct project.id, substring(concat('  ', lower(project.name), ' ') from gram_start for 3)
+from project, generate_series(1, 256) gram_start
+where project.name is not null
+  and gram_start <= length(project.name) + 1;
@@ -0,0 +1,10 @@
+create table project_name_gram
+(
+    project_id varchar(255) not null,
+    gram       varchar(3)   not null,
+    primary key (project_id, gram)
+);
+alter table project_name_gram
+    add constraint FK_PROJECT_NAME_GRAM_PROJECT foreign key (project_id) references project;
+create index IDX_PROJECT_NAME_GRAM
+    on project_name_gram (gram, project_id);